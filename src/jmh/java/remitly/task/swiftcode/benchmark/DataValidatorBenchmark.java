@@ -0,0 +1,41 @@
+package remitly.task.swiftcode.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import remitly.task.swiftcode.utils.DataValidator;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataValidatorBenchmark {
+    private final DataValidator validator = new DataValidator();
+    private String validSwiftCode = "DEUTDEFF500";
+    private String invalidSwiftCode = "deutdeff50!";
+
+    @Benchmark
+    public void validateValidSwiftCode() {
+        validator.validateSwiftCode(validSwiftCode);
+    }
+
+    @Benchmark
+    public String validateInvalidSwiftCode() {
+        try {
+            validator.validateSwiftCode(invalidSwiftCode);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package remitly.task.swiftcode.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import remitly.task.swiftcode.dto.BranchSwiftCodeDTO;
+import remitly.task.swiftcode.dto.HeadquarterSwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.utils.SwiftCodeDetailsMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwiftCodeDetailsMapperBenchmark {
+    @Param({"10", "500"})
+    private int branchCount;
+
+    private final SwiftCodeDetailsMapper mapper = new SwiftCodeDetailsMapper();
+    private Swift headquarter;
+    private List<Swift> branches;
+    private List<SwiftCodeDTO> branchDTOs;
+
+    @Setup
+    public void setUp() {
+        Country germany = new Country("Germany", "DE");
+        headquarter = new Swift("DEUTDEFFXXX", "Taunusanlage 12", "Deutsche Bank", true, germany);
+        branches = new ArrayList<>(branchCount);
+        for (int i = 0; i < branchCount; i++) {
+            branches.add(new Swift(String.format("DEUTDEFF%03d", i), "Address " + i, "Deutsche Bank", false, germany));
+        }
+        branchDTOs = mapper.mapToSwiftCodeDTOs(branches);
+    }
+
+    @Benchmark
+    public BranchSwiftCodeDTO mapBranch() {
+        return mapper.mapToBranchSwiftCodeDTO(branches.get(0));
+    }
+
+    @Benchmark
+    public HeadquarterSwiftCodeDTO mapHeadquarter() {
+        return mapper.mapToHeadquarterSwiftCodeDTO(headquarter, branchDTOs);
+    }
+
+    @Benchmark
+    public List<SwiftCodeDTO> mapBranchList() {
+        return mapper.mapToSwiftCodeDTOs(branches);
+    }
+}
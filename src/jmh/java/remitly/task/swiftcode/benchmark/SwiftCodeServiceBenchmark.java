@@ -0,0 +1,134 @@
+package remitly.task.swiftcode.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import remitly.task.swiftcode.SwiftcodeApplication;
+import remitly.task.swiftcode.dto.CountrySwiftCodeDTO;
+import remitly.task.swiftcode.engine.SwiftDirectoryEngine;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.SwiftBatchRepository;
+import remitly.task.swiftcode.service.CountryCache;
+import remitly.task.swiftcode.service.HeadquarterBranchAggregates;
+import remitly.task.swiftcode.service.SwiftCodeService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SwiftCodeService} read paths against a synthetic directory of {@value #ROWS} codes: 100 000 banks with
+ * one headquarters and nine branches each, spread over {@value #COUNTRIES} countries (5 000 codes per country).
+ * The application context runs on an in-memory H2 database with caching disabled, so every call reaches
+ * the configured engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class SwiftCodeServiceBenchmark {
+    static final int ROWS = 1_000_000;
+    static final int COUNTRIES = 200;
+    private static final int CODES_PER_BANK = 10;
+    private static final int BANKS = ROWS / CODES_PER_BANK;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final String[] ISO_COUNTRIES = Locale.getISOCountries();
+
+    @Param({"jpa", SwiftDirectoryEngine.MEMORY_MODE})
+    private String engineMode;
+
+    private ConfigurableApplicationContext context;
+    private SwiftCodeService service;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SwiftcodeApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:swiftcode-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--swiftcode.cache.enabled=false",
+                        "--swiftcode.engine.mode=" + engineMode,
+                        "--logging.level.root=WARN");
+        populate(context.getBean(CountryRepository.class), context.getBean(SwiftBatchRepository.class));
+        context.getBean(CountryCache.class).reload();
+        context.getBean(HeadquarterBranchAggregates.class).reload();
+        if (SwiftDirectoryEngine.MEMORY_MODE.equals(engineMode)) context.getBean(SwiftDirectoryEngine.class).reload();
+        service = context.getBean(SwiftCodeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object getBranchDetails() {
+        return service.getSwiftCodeDetails(bank(nextBank()) + "001");
+    }
+
+    @Benchmark
+    public Object getHeadquarterDetails() {
+        return service.getSwiftCodeDetails(bank(nextBank()) + "XXX");
+    }
+
+    @Benchmark
+    public CountrySwiftCodeDTO getSwiftCodesByCountry() {
+        return service.getSwiftCodesByCountry(iso2(nextBank() % COUNTRIES));
+    }
+
+    private int nextBank() {
+        next = (next + 7919) % BANKS;
+        return next;
+    }
+
+    private static void populate(CountryRepository countryRepository, SwiftBatchRepository swiftBatchRepository) {
+        List<Country> countries = new ArrayList<>(COUNTRIES);
+        for (int c = 0; c < COUNTRIES; c++) countries.add(new Country("Country " + c, iso2(c)));
+        countries = countryRepository.saveAll(countries);
+        List<Swift> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            int bank = i / CODES_PER_BANK;
+            String suffix = i % CODES_PER_BANK == 0 ? "XXX" : String.format("%03d", i % CODES_PER_BANK);
+            batch.add(new Swift(bank(bank) + suffix, "Address " + i, "Bank " + bank, i % CODES_PER_BANK == 0,
+                    countries.get(bank % COUNTRIES)));
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                swiftBatchRepository.insertAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) swiftBatchRepository.insertAll(batch);
+    }
+
+    /**
+     * First 8 characters of a structurally valid BIC: base-36 party prefix, the bank's country and a fixed location.
+     */
+    private static String bank(int bank) {
+        String prefix = Integer.toString(bank, 36).toUpperCase();
+        return "0".repeat(4 - prefix.length()) + prefix + iso2(bank % COUNTRIES) + "22";
+    }
+
+    private static String iso2(int country) {
+        return ISO_COUNTRIES[country];
+    }
+}
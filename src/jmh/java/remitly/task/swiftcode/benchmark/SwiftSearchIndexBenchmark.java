@@ -0,0 +1,67 @@
+package remitly.task.swiftcode.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.engine.SwiftSearchIndex;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SwiftSearchIndexBenchmark {
+    private static final String[] ISO_COUNTRIES = Locale.getISOCountries();
+    private static final String[] CITIES = {"WARSZAWA", "KRAKOW", "BERLIN", "FRANKFURT", "MADRID", "LISBOA", "PARIS", "ROMA"};
+    private static final int LIMIT = 20;
+
+    @Param({"100000"})
+    private int size;
+
+    private final SwiftSearchIndex index = new SwiftSearchIndex();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < size; i++) {
+            String bank = Integer.toString(i / 10, 36).toUpperCase();
+            String code = "0".repeat(4 - bank.length()) + bank + ISO_COUNTRIES[i / 10 % ISO_COUNTRIES.length] + "22"
+                    + (i % 10 == 0 ? "XXX" : String.format("%03d", i % 10));
+            index.add(new SwiftCodeDTO("STREET " + i + " " + CITIES[i % CITIES.length], "BANK " + bank + " HOLDING",
+                    code.substring(4, 6), i % 10 == 0, code));
+        }
+    }
+
+    @Benchmark
+    public List<SwiftCodeDTO> codePrefix() {
+        return index.search("0A1", LIMIT);
+    }
+
+    @Benchmark
+    public List<SwiftCodeDTO> bankNamePrefix() {
+        return index.search("bank 1z", LIMIT);
+    }
+
+    @Benchmark
+    public List<SwiftCodeDTO> selectiveAddress() {
+        return index.search("street 99999 lisb", LIMIT);
+    }
+
+    @Benchmark
+    public List<SwiftCodeDTO> noMatch() {
+        return index.search("holding nowhere", LIMIT);
+    }
+}
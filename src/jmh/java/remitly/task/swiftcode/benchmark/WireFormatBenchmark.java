@@ -0,0 +1,119 @@
+package remitly.task.swiftcode.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import remitly.task.swiftcode.dto.CountrySwiftCodeDTO;
+import remitly.task.swiftcode.dto.HeadquarterSwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding cost of the JSON responses against the {@code application/vnd.swiftcode.v1+cbor}
+ * wire format, for a country listing and a headquarters with its branches. Payload sizes are printed
+ * once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+    @Param({"10", "1000"})
+    private int swiftCodeCount;
+
+    private final ObjectMapper json = new JsonMapper();
+    private final ObjectMapper cbor = new CBORMapper();
+    private CountrySwiftCodeDTO country;
+    private HeadquarterSwiftCodeDTO headquarter;
+    private byte[] countryJson;
+    private byte[] countryCbor;
+    private byte[] headquarterJson;
+    private byte[] headquarterCbor;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<SwiftCodeDTO> swiftCodes = new ArrayList<>(swiftCodeCount);
+        for (int i = 0; i < swiftCodeCount; i++) {
+            swiftCodes.add(new SwiftCodeDTO("Address " + i, "Deutsche Bank", "DE", i % 10 == 0,
+                    String.format("DEUTDE%02d%s", i % 100, i % 10 == 0 ? "XXX" : String.format("%03d", i))));
+        }
+        country = CountrySwiftCodeDTO.builder()
+                .countryISO2("DE")
+                .countryName("GERMANY")
+                .swiftCodes(swiftCodes)
+                .build();
+        headquarter = HeadquarterSwiftCodeDTO.builder()
+                .address("Taunusanlage 12")
+                .bankName("Deutsche Bank")
+                .countryISO2("DE")
+                .countryName("GERMANY")
+                .isHeadquarter(true)
+                .swiftCode("DEUTDEFFXXX")
+                .branches(swiftCodes)
+                .build();
+        countryJson = json.writeValueAsBytes(country);
+        countryCbor = cbor.writeValueAsBytes(country);
+        headquarterJson = json.writeValueAsBytes(headquarter);
+        headquarterCbor = cbor.writeValueAsBytes(headquarter);
+        System.out.printf("%n%d codes: country json=%d cbor=%d bytes, headquarter json=%d cbor=%d bytes%n",
+                swiftCodeCount, countryJson.length, countryCbor.length, headquarterJson.length, headquarterCbor.length);
+    }
+
+    @Benchmark
+    public byte[] encodeCountryJson() throws IOException {
+        return json.writeValueAsBytes(country);
+    }
+
+    @Benchmark
+    public byte[] encodeCountryCbor() throws IOException {
+        return cbor.writeValueAsBytes(country);
+    }
+
+    @Benchmark
+    public JsonNode decodeCountryJson() throws IOException {
+        return json.readTree(countryJson);
+    }
+
+    @Benchmark
+    public JsonNode decodeCountryCbor() throws IOException {
+        return cbor.readTree(countryCbor);
+    }
+
+    @Benchmark
+    public byte[] encodeHeadquarterJson() throws IOException {
+        return json.writeValueAsBytes(headquarter);
+    }
+
+    @Benchmark
+    public byte[] encodeHeadquarterCbor() throws IOException {
+        return cbor.writeValueAsBytes(headquarter);
+    }
+
+    @Benchmark
+    public JsonNode decodeHeadquarterJson() throws IOException {
+        return json.readTree(headquarterJson);
+    }
+
+    @Benchmark
+    public JsonNode decodeHeadquarterCbor() throws IOException {
+        return cbor.readTree(headquarterCbor);
+    }
+}
@@ -2,20 +2,30 @@ package remitly.task.swiftcode;
 
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import remitly.task.swiftcode.dto.SwiftCodeRow;
 import remitly.task.swiftcode.model.Swift;
 import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.repository.SwiftBatchRepository;
 import remitly.task.swiftcode.repository.SwiftRepository;
 import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.service.SwiftDirectorySyncService;
+import remitly.task.swiftcode.utils.SwiftCodeSnapshotFile;
+import remitly.task.swiftcode.utils.XlsxSwiftCodeReader;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 @Profile("!test")
@@ -24,34 +34,151 @@ public class DataInitializer {
     private final Logger LOGGER = LoggerFactory.getLogger(DataInitializer.class);
     private final CountryRepository countryRepo;
     private final SwiftRepository branchRepo;
+    private final SwiftBatchRepository batchRepo;
+    private final XlsxSwiftCodeReader reader;
+    private final SwiftCodeSnapshotFile snapshotFile;
+    private final SwiftDirectorySyncService syncService;
 
+    @Value("${swiftcode.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${swiftcode.import.snapshot-path:./data/snapshot/swiftcodes.bin}")
+    private Path snapshotPath;
+
+    @Value("${swiftcode.import.mode:full}")
+    private String importMode;
+
+    /**
+     * Imports {@code data.xlsx} into an empty database. The rows are read from a
+     * {@link SwiftCodeSnapshotFile} of the spreadsheet: the one at {@code swiftcode.import.snapshot-path},
+     * else the one the build bundles on the classpath, installed at that path first. Without a current
+     * snapshot the spreadsheet is parsed and streamed into a new one as it is imported. With
+     * {@code swiftcode.import.mode=delta} a populated database is synchronized with the spreadsheet
+     * instead of being left as it is.
+     */
     @PostConstruct
     public void loadDataFromExcel() {
         if (branchRepo.count() > 0 && countryRepo.count() > 0) {
-            LOGGER.info("Data already initialized — skipping initialization.");
+            if ("delta".equalsIgnoreCase(importMode)) {
+                syncWithExcel();
+            } else {
+                LOGGER.info("Data already initialized — skipping initialization.");
+            }
             return;
         }
-        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("data.xlsx")) {
-            if (inputStream == null) throw new RuntimeException("Excel file not found");
-            Workbook workbook = WorkbookFactory.create(inputStream);
-            Sheet sheet = workbook.getSheetAt(0);
-            for (Row row : sheet) {
-                if (row.getRowNum() == 0) continue;
-                String iso2 = row.getCell(0).getStringCellValue();
-                String swiftCode = row.getCell(1).getStringCellValue();
-                String bankName = row.getCell(3).getStringCellValue();
-                String address = row.getCell(4).getStringCellValue();
-                String countryName = row.getCell(6).getStringCellValue();
-                boolean isHeadquarter = !swiftCode.endsWith("XXX");
-                Country country = countryRepo.findByIso2(iso2)
-                        .orElseGet(() -> countryRepo.save(new Country(countryName, iso2)));
-                Swift swift = new Swift(swiftCode, address, bankName, isHeadquarter, country);
-                branchRepo.save(swift);
+        long start = System.nanoTime();
+        long rows = 0;
+        String source = "data.xlsx";
+        try {
+            long checksum = checksum();
+            Map<String, Country> countries = new HashMap<>();
+            countryRepo.findAll().forEach(country -> countries.put(country.getIso2(), country));
+            List<Swift> batch = new ArrayList<>(batchSize);
+            Consumer<SwiftCodeRow> importer = row -> {
+                batch.add(toSwift(row, countries));
+                if (batch.size() >= batchSize) flush(batch);
+            };
+            Optional<SwiftCodeSnapshotFile.Snapshot> snapshot = openSnapshot(checksum);
+            if (snapshot.isPresent()) {
+                source = snapshotPath.toString();
+                snapshot.get().forEach(importer);
+                rows = snapshot.get().size();
+            } else {
+                rows = readSpreadsheet(checksum, importer);
+            }
+            flush(batch);
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        } finally {
+            double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+            LOGGER.info("Initialized {} branches and {} countries: imported {} rows from {} in {} ms ({} rows/sec)",
+                    branchRepo.count(), countryRepo.count(), rows, source, Math.round(seconds * 1000), Math.round(rows / seconds));
+        }
+    }
+
+    private void syncWithExcel() {
+        try {
+            long checksum = checksum();
+            Optional<SwiftCodeSnapshotFile.Snapshot> snapshot = openSnapshot(checksum);
+            List<SwiftCodeRow> sheet = new ArrayList<>();
+            if (snapshot.isPresent()) {
+                snapshot.get().forEach(sheet::add);
+            } else {
+                readSpreadsheet(checksum, sheet::add);
             }
+            syncService.sync(sheet, false);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    private Optional<SwiftCodeSnapshotFile.Snapshot> openSnapshot(long checksum) {
+        Optional<SwiftCodeSnapshotFile.Snapshot> snapshot = snapshotFile.open(snapshotPath, checksum);
+        if (snapshot.isPresent()) return snapshot;
+        try (InputStream bundled = getClass().getClassLoader().getResourceAsStream(SwiftCodeSnapshotFile.BUNDLED_RESOURCE)) {
+            if (bundled == null) return Optional.empty();
+            snapshotFile.install(bundled, snapshotPath);
+            LOGGER.info("Installed the bundled SWIFT code snapshot at {}", snapshotPath);
+            return snapshotFile.open(snapshotPath, checksum);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not install the bundled SWIFT code snapshot at {}: {}", snapshotPath, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses the spreadsheet into {@code consumer}, writing each row to a new snapshot on the way.
+     */
+    private long readSpreadsheet(long checksum, Consumer<SwiftCodeRow> consumer) throws IOException {
+        SwiftCodeSnapshotFile.Writer writer = createSnapshot(checksum);
+        try (InputStream inputStream = openSpreadsheet()) {
+            long rows = reader.read(inputStream, writer == null ? consumer : writer.andThen(consumer));
+            if (writer != null) commitSnapshot(writer);
+            return rows;
         } finally {
-            LOGGER.info("Initialized {} branches and {} countries", branchRepo.count(), countryRepo.count());
+            if (writer != null) writer.close();
+        }
+    }
+
+    private InputStream openSpreadsheet() {
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream("data.xlsx");
+        if (inputStream == null) throw new RuntimeException("Excel file not found");
+        return inputStream;
+    }
+
+    private long checksum() throws IOException {
+        try (InputStream inputStream = openSpreadsheet()) {
+            return SwiftCodeSnapshotFile.checksum(inputStream);
+        }
+    }
+
+    private SwiftCodeSnapshotFile.Writer createSnapshot(long checksum) {
+        try {
+            return snapshotFile.create(snapshotPath, checksum);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not write SWIFT code snapshot {}: {}", snapshotPath, e.getMessage());
+            return null;
+        }
+    }
+
+    private void commitSnapshot(SwiftCodeSnapshotFile.Writer writer) {
+        try {
+            writer.commit();
+            LOGGER.info("Wrote SWIFT code snapshot {} for the next import", snapshotPath);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not write SWIFT code snapshot {}: {}", snapshotPath, e.getMessage());
         }
     }
+
+    private Swift toSwift(SwiftCodeRow row, Map<String, Country> countries) {
+        Country country = countries.computeIfAbsent(row.getCountryISO2(),
+                iso2 -> countryRepo.save(new Country(row.getCountryName(), iso2)));
+        return new Swift(row.getSwiftCode(), row.getAddress(), row.getBankName(), row.isHeadquarter(), country);
+    }
+
+    private void flush(List<Swift> batch) {
+        if (batch.isEmpty()) return;
+        batchRepo.insertAll(batch);
+        batch.clear();
+    }
 }
@@ -0,0 +1,38 @@
+package remitly.task.swiftcode.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "swiftcode.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+    public static final String SWIFT_CODE_DETAILS_CACHE = "swiftCodeDetails";
+    public static final String COUNTRY_SWIFT_CODES_CACHE = "countrySwiftCodes";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${swiftcode.cache.details.maximum-size:100000}") long detailsMaximumSize,
+                                     @Value("${swiftcode.cache.country.maximum-size:300}") long countryMaximumSize,
+                                     @Value("${swiftcode.cache.ttl:10m}") Duration ttl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(SWIFT_CODE_DETAILS_CACHE, Caffeine.newBuilder()
+                .maximumSize(detailsMaximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(COUNTRY_SWIFT_CODES_CACHE, Caffeine.newBuilder()
+                .maximumSize(countryMaximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
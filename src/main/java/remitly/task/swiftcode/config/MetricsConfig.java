@@ -0,0 +1,46 @@
+package remitly.task.swiftcode.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import remitly.task.swiftcode.controller.SwiftCodeRequestMetrics;
+
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+    public static final String CACHE_HIT_RATIO = "cache.hit.ratio";
+
+    private final SwiftCodeRequestMetrics requestMetrics;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestMetrics).addPathPatterns("/v1/**");
+    }
+
+    /**
+     * Hit ratio of every Caffeine cache of the Spring cache manager, next to the {@code cache.gets}
+     * counts Spring Boot already publishes for them.
+     */
+    @Bean
+    public MeterBinder springCacheHitRatios(ObjectProvider<CacheManager> cacheManager) {
+        return registry -> cacheManager.ifAvailable(manager -> manager.getCacheNames().forEach(name -> {
+            if (manager.getCache(name) instanceof CaffeineCache cache) bindHitRatio(registry, name, cache.getNativeCache());
+        }));
+    }
+
+    public static void bindHitRatio(MeterRegistry registry, String name, Cache<?, ?> cache) {
+        Gauge.builder(CACHE_HIT_RATIO, cache, nativeCache -> nativeCache.stats().hitRate())
+                .tag("cache", name)
+                .description("Share of lookups answered from the cache since startup")
+                .register(registry);
+    }
+}
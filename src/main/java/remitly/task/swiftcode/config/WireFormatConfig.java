@@ -0,0 +1,35 @@
+package remitly.task.swiftcode.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+/**
+ * Binary encoding of the API for service-to-service callers, negotiated with
+ * {@code Accept: application/vnd.swiftcode.v1+cbor} (and {@code Content-Type} for request bodies).
+ * Version 1 is CBOR (RFC 8949) with exactly the property names and value types of the JSON
+ * responses, so a v1 body decodes into the same DTOs. A change to those DTOs that removes or
+ * retypes a property needs a new media type version; clients asking for an unknown version get
+ * {@code 406 Not Acceptable}.
+ * <p>
+ * This converter replaces Spring's default CBOR converter, so the unversioned
+ * {@code application/cbor} is not served.
+ */
+@Configuration
+public class WireFormatConfig {
+    public static final String CBOR_V1_VALUE = "application/vnd.swiftcode.v1+cbor";
+    public static final MediaType CBOR_V1 = MediaType.parseMediaType(CBOR_V1_VALUE);
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter swiftCodeCborConverter(Jackson2ObjectMapperBuilder builder) {
+        MappingJackson2CborHttpMessageConverter converter =
+                new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+        converter.setSupportedMediaTypes(List.of(CBOR_V1));
+        return converter;
+    }
+}
@@ -0,0 +1,106 @@
+package remitly.task.swiftcode.controller;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import remitly.task.swiftcode.repository.QueryCounter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One structured line per API call on the {@code swiftcode.access} logger, with method, URI, handler
+ * pattern, status, latency and the number of SQL statements the call ran. Failed calls (status 400 and
+ * above, or an exception) are always logged; successful ones only with probability
+ * {@code swiftcode.access-log.success-sample-rate}. Async requests are logged when the response
+ * completes. The logger writes through an async appender (see {@code logback-spring.xml}), so a
+ * request never waits on log I/O.
+ */
+@Component
+@ConditionalOnProperty(name = "swiftcode.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogFilter extends OncePerRequestFilter {
+    public static final String LOGGER_NAME = "swiftcode.access";
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final double successSampleRate;
+
+    public AccessLogFilter(@Value("${swiftcode.access-log.success-sample-rate:0.1}") double successSampleRate) {
+        this.successSampleRate = successSampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/v1/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        AtomicInteger queries = QueryCounter.start();
+        Exception failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            QueryCounter.stop();
+            if (failure == null && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        log(request, response, start, queries, null);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                log(request, response, start, queries, failure);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, long start, AtomicInteger queries,
+                     Exception failure) {
+        boolean failed = failure != null || response.getStatus() >= 400;
+        if (!failed && !sampled()) return;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        LoggingEventBuilder event = ACCESS_LOG.atLevel(failed ? Level.WARN : Level.INFO)
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("uri", request.getRequestURI())
+                .addKeyValue("pattern", pattern)
+                .addKeyValue("status", failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus())
+                .addKeyValue("latencyMs", (System.nanoTime() - start) / 1_000_000.0)
+                .addKeyValue("dbQueries", queries.get());
+        if (failure != null) event = event.addKeyValue("exception", failure.getClass().getSimpleName());
+        event.log("{} {} {}", request.getMethod(), request.getRequestURI(), failed ? "failed" : "completed");
+    }
+
+    private boolean sampled() {
+        return successSampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < successSampleRate;
+    }
+}
@@ -0,0 +1,159 @@
+package remitly.task.swiftcode.controller;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import remitly.task.swiftcode.config.WireFormatConfig;
+import remitly.task.swiftcode.dto.SwiftCodeBulkAddRequestDTO;
+import remitly.task.swiftcode.dto.SwiftCodeBulkDeleteRequestDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeLookupRequestDTO;
+import remitly.task.swiftcode.repository.QueryCounter;
+import remitly.task.swiftcode.service.SwiftCodeService;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking variant of {@link SwiftCodeController}: every endpoint under
+ * {@code /v1/async/swift-codes}, with the same parameters, content negotiation, validators and
+ * responses, because each one calls the matching {@link SwiftCodeController} handler. Handlers return
+ * immediately and the servlet thread goes back to the pool; that call, with its blocking service and
+ * JPA work, runs on a virtual thread and the response is completed through servlet async processing.
+ * A connection waiting for a lookup holds no platform thread.
+ * <p>
+ * The country stream is the exception: its body is already written asynchronously by MVC, and the
+ * country check before it is served from memory, so it is delegated on the request thread.
+ */
+@RestController
+@RequestMapping("/v1/async/swift-codes")
+public class AsyncSwiftCodeController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncSwiftCodeController.class);
+    private final SwiftCodeController controller;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("swift-async-", 0).factory());
+
+    @Autowired
+    public AsyncSwiftCodeController(SwiftCodeController controller) {
+        this.controller = controller;
+    }
+
+    @GetMapping(value = "/{swiftCode}", produces = {MediaType.APPLICATION_JSON_VALUE, WireFormatConfig.CBOR_V1_VALUE})
+    public CompletableFuture<ResponseEntity<Object>> getBySwiftCode(@PathVariable String swiftCode,
+                                                                    @RequestParam(defaultValue = SwiftCodeService.BRANCHES_LIST) String branches,
+                                                                    @RequestParam(required = false) String fields,
+                                                                    WebRequest request) {
+        return async(() -> controller.getBySwiftCode(swiftCode, branches, fields, request));
+    }
+
+    @GetMapping(value = "/country/{countryISO2}", produces = {MediaType.APPLICATION_JSON_VALUE, WireFormatConfig.CBOR_V1_VALUE})
+    public CompletableFuture<ResponseEntity<Object>> getByCountry(@PathVariable String countryISO2,
+                                                                  @RequestParam(required = false) Integer limit,
+                                                                  @RequestParam(required = false) String after,
+                                                                  @RequestParam(required = false) String fields,
+                                                                  @RequestParam(defaultValue = SwiftCodeController.FORMAT_FULL) String format,
+                                                                  WebRequest request) {
+        return async(() -> controller.getByCountry(countryISO2, limit, after, fields, format, request));
+    }
+
+    @GetMapping("/country/{countryISO2}/stream")
+    public ResponseEntity<StreamingResponseBody> streamByCountry(@PathVariable String countryISO2) {
+        return controller.streamByCountry(countryISO2);
+    }
+
+    @PostMapping(value = "/lookup", produces = {MediaType.APPLICATION_JSON_VALUE, WireFormatConfig.CBOR_V1_VALUE})
+    public CompletableFuture<ResponseEntity<Object>> lookupSwiftCodes(@RequestBody SwiftCodeLookupRequestDTO requestDTO,
+                                                                      @RequestParam(required = false) String fields,
+                                                                      WebRequest request) {
+        return async(() -> controller.lookupSwiftCodes(requestDTO, fields, request));
+    }
+
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity<Object>> search(@RequestParam(required = false) String q,
+                                                            @RequestParam(required = false) Integer limit) {
+        return async(() -> controller.search(q, limit));
+    }
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<Object>> addSwiftCode(@RequestBody SwiftCodeDTO requestDTO) {
+        return async(() -> controller.addSwiftCode(requestDTO));
+    }
+
+    @PostMapping("/bulk")
+    public CompletableFuture<ResponseEntity<Object>> addSwiftCodes(@RequestBody SwiftCodeBulkAddRequestDTO requestDTO) {
+        return async(() -> controller.addSwiftCodes(requestDTO));
+    }
+
+    @DeleteMapping("/bulk")
+    public CompletableFuture<ResponseEntity<Object>> deleteSwiftCodes(@RequestBody SwiftCodeBulkDeleteRequestDTO requestDTO) {
+        return async(() -> controller.deleteSwiftCodes(requestDTO));
+    }
+
+    @PostMapping("/sync")
+    public CompletableFuture<ResponseEntity<Object>> syncSwiftCodes(@RequestParam("file") MultipartFile file,
+                                                                    @RequestParam(defaultValue = "false") boolean force) {
+        return async(() -> controller.syncSwiftCodes(file, force));
+    }
+
+    @DeleteMapping("/{swiftCode}")
+    public CompletableFuture<ResponseEntity<Object>> deleteSwiftCode(@PathVariable String swiftCode) {
+        return async(() -> controller.deleteSwiftCode(swiftCode));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Object> handleIllegalArgument(IllegalArgumentException e) {
+        return controller.handleIllegalArgument(e);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+
+    /**
+     * Runs {@code handler} on a virtual thread with the request bound to it, as on the request thread,
+     * so that the delegated handler can record its outcome for the request metrics.
+     */
+    private CompletableFuture<ResponseEntity<Object>> async(Supplier<ResponseEntity<Object>> handler) {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = attributes.getRequest();
+        ServletRequestAttributes bound = new ServletRequestAttributes(request, attributes.getResponse());
+        Supplier<ResponseEntity<Object>> task = () -> {
+            RequestContextHolder.setRequestAttributes(bound);
+            try {
+                return handler.get();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+        return CompletableFuture.supplyAsync(QueryCounter.propagate(task), executor).exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (!(cause instanceof IllegalArgumentException illegalArgument)) throw new CompletionException(cause);
+            LOGGER.error(cause.getMessage());
+            SwiftCodeRequestMetrics.markFailure(request, illegalArgument);
+            return ResponseEntity.badRequest().body(Map.of("message", cause.getMessage()));
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package remitly.task.swiftcode.controller;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import remitly.task.swiftcode.engine.TokenBucketRateLimiter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Admits API calls against per-client token buckets before any controller, service or database work.
+ * A client is its {@code X-API-Key} header when that key is one of {@code swiftcode.rate-limit.api-keys},
+ * otherwise its address, so sending a fresh made-up key per call neither earns a new burst nor
+ * fills the bucket table. The address is the remote address of the connection, unless that is one of
+ * {@code swiftcode.rate-limit.trusted-proxies}: then it is the right-most {@code X-Forwarded-For} entry
+ * not added by a trusted proxy, since anything left of it may be forged by the client. Without listing
+ * its proxies, a deployment behind a load balancer would put every client into the balancer's bucket,
+ * which is why limiting is off unless {@code swiftcode.rate-limit.enabled=true}. Reads (GET and
+ * {@code POST .../lookup}) and writes (every other method) draw from separate quotas, so a client
+ * bulk-loading codes cannot starve its own lookups and vice versa. A rejected call is answered at
+ * once with {@code 429 Too Many Requests} and a {@code Retry-After} in whole seconds, and counted as
+ * {@code swiftcode.rate_limit.rejections}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "swiftcode.rate-limit.enabled", havingValue = "true")
+public class RateLimitFilter extends OncePerRequestFilter {
+    public static final String API_KEY_HEADER = "X-API-Key";
+    public static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    public static final String REJECTIONS_METRIC = "swiftcode.rate_limit.rejections";
+    private static final byte[] REJECTED_BODY = "{\"message\":\"Too many requests\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Set<String> apiKeys;
+    private final Set<String> trustedProxies;
+    private final TokenBucketRateLimiter reads;
+    private final TokenBucketRateLimiter writes;
+    private final Counter readRejections;
+    private final Counter writeRejections;
+
+    public RateLimitFilter(MeterRegistry meterRegistry,
+                           @Value("${swiftcode.rate-limit.read.permits-per-second:100}") double readPermitsPerSecond,
+                           @Value("${swiftcode.rate-limit.read.burst:200}") int readBurst,
+                           @Value("${swiftcode.rate-limit.write.permits-per-second:10}") double writePermitsPerSecond,
+                           @Value("${swiftcode.rate-limit.write.burst:20}") int writeBurst,
+                           @Value("${swiftcode.rate-limit.idle-expiry:10m}") Duration idleExpiry,
+                           @Value("${swiftcode.rate-limit.maximum-clients:100000}") long maximumClients,
+                           @Value("${swiftcode.rate-limit.api-keys:}") String apiKeys,
+                           @Value("${swiftcode.rate-limit.trusted-proxies:}") String trustedProxies) {
+        this.apiKeys = toSet(apiKeys);
+        this.trustedProxies = toSet(trustedProxies);
+        this.reads = new TokenBucketRateLimiter(readPermitsPerSecond, readBurst, idleExpiry, maximumClients, System::nanoTime);
+        this.writes = new TokenBucketRateLimiter(writePermitsPerSecond, writeBurst, idleExpiry, maximumClients, System::nanoTime);
+        this.readRejections = meterRegistry.counter(REJECTIONS_METRIC, "quota", "read");
+        this.writeRejections = meterRegistry.counter(REJECTIONS_METRIC, "quota", "write");
+        Gauge.builder("swiftcode.rate_limit.clients", reads, TokenBucketRateLimiter::trackedClients)
+                .tag("quota", "read").register(meterRegistry);
+        Gauge.builder("swiftcode.rate_limit.clients", writes, TokenBucketRateLimiter::trackedClients)
+                .tag("quota", "write").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/v1/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean read = isRead(request);
+        long waitNanos = (read ? reads : writes).tryAcquire(client(request));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        (read ? readRejections : writeRejections).increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString((waitNanos + 999_999_999) / 1_000_000_000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(REJECTED_BODY.length);
+        response.getOutputStream().write(REJECTED_BODY);
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                || HttpMethod.POST.matches(method) && request.getRequestURI().endsWith("/lookup");
+    }
+
+    private String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + clientAddress(request);
+    }
+
+    private String clientAddress(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (!trustedProxies.contains(address)) return address;
+        String[] forwarded = StringUtils.commaDelimitedListToStringArray(request.getHeader(FORWARDED_FOR_HEADER));
+        for (int i = forwarded.length - 1; i >= 0; i--) {
+            String hop = forwarded[i].trim();
+            if (hop.isEmpty()) continue;
+            address = hop;
+            if (!trustedProxies.contains(hop)) break;
+        }
+        return address;
+    }
+
+    private static Set<String> toSet(String commaDelimited) {
+        return StringUtils.commaDelimitedListToSet(commaDelimited).stream()
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,41 @@
+package remitly.task.swiftcode.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import remitly.task.swiftcode.service.SwiftCodeChangeLog;
+
+import java.util.Map;
+
+/**
+ * Change feed for followers: the directory's change log read from a sequence number onwards.
+ */
+@RestController
+@RequestMapping("/v1/replication")
+public class ReplicationController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationController.class);
+    private final SwiftCodeChangeLog changeLog;
+
+    @Autowired
+    public ReplicationController(SwiftCodeChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<Object> getChanges(@RequestParam(defaultValue = "0") long after,
+                                             @RequestParam(defaultValue = "1000") int limit) {
+        LOGGER.debug("Reading SWIFT code changes after sequence {}", after);
+        try {
+            return ResponseEntity.ok(changeLog.read(after, limit));
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Error reading SWIFT code changes: {}", e.getMessage());
+            SwiftCodeRequestMetrics.markFailure(e);
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+}
@@ -1,75 +1,364 @@
 package remitly.task.swiftcode.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import remitly.task.swiftcode.config.WireFormatConfig;
+import remitly.task.swiftcode.dto.CountrySwiftCodeDTO;
+import remitly.task.swiftcode.dto.CountrySwiftCodePageDTO;
+import remitly.task.swiftcode.dto.SwiftCodeBulkAddRequestDTO;
+import remitly.task.swiftcode.dto.SwiftCodeBulkDeleteRequestDTO;
 import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeLookupRequestDTO;
+import remitly.task.swiftcode.dto.SwiftCodeLookupResponseDTO;
+import remitly.task.swiftcode.dto.SwiftCodeSearchResponseDTO;
+import remitly.task.swiftcode.service.SwiftCodeBulkService;
+import remitly.task.swiftcode.service.SwiftCodeLookupService;
+import remitly.task.swiftcode.service.SwiftCodeResponseCache;
+import remitly.task.swiftcode.service.SwiftCodeSearchService;
 import remitly.task.swiftcode.service.SwiftCodeService;
+import remitly.task.swiftcode.service.SwiftCodeVersionTracker;
+import remitly.task.swiftcode.service.SwiftDirectorySyncService;
+import remitly.task.swiftcode.utils.Gzip;
+import remitly.task.swiftcode.utils.SwiftCodeProjection;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
 
 @RestController
 @RequestMapping("/v1/swift-codes")
 public class SwiftCodeController {
     private static final Logger LOGGER = LoggerFactory.getLogger(SwiftCodeController.class);
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    static final String FORMAT_FULL = "full";
+    private static final String FORMAT_COMPACT = "compact";
     private final SwiftCodeService swiftCodeService;
+    private final SwiftCodeLookupService swiftCodeLookupService;
+    private final SwiftCodeBulkService swiftCodeBulkService;
+    private final SwiftCodeSearchService swiftCodeSearchService;
+    private final SwiftDirectorySyncService swiftDirectorySyncService;
+    private final SwiftCodeVersionTracker versionTracker;
+    private final SwiftCodeResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final SwiftCodeProjection projection;
+    private final long gzipMinSize;
 
     @Autowired
-    public SwiftCodeController(SwiftCodeService swiftCodeService) {
+    public SwiftCodeController(SwiftCodeService swiftCodeService, SwiftCodeLookupService swiftCodeLookupService,
+                               SwiftCodeBulkService swiftCodeBulkService, SwiftCodeSearchService swiftCodeSearchService,
+                               SwiftDirectorySyncService swiftDirectorySyncService, SwiftCodeVersionTracker versionTracker, ObjectProvider<SwiftCodeResponseCache> responseCache,
+                               ObjectMapper objectMapper, SwiftCodeProjection projection,
+                               @Value("${server.compression.enabled:false}") boolean compressionEnabled,
+                               @Value("${server.compression.min-response-size:2KB}") DataSize compressionMinSize) {
         this.swiftCodeService = swiftCodeService;
+        this.swiftCodeLookupService = swiftCodeLookupService;
+        this.swiftCodeBulkService = swiftCodeBulkService;
+        this.swiftCodeSearchService = swiftCodeSearchService;
+        this.swiftDirectorySyncService = swiftDirectorySyncService;
+        this.versionTracker = versionTracker;
+        this.responseCache = responseCache.getIfAvailable();
+        this.objectMapper = objectMapper;
+        this.projection = projection;
+        this.gzipMinSize = compressionEnabled ? compressionMinSize.toBytes() : Long.MAX_VALUE;
     }
 
-    @GetMapping("/{swiftCode}")
-    public ResponseEntity<Object> getBySwiftCode(@PathVariable String swiftCode) {
-        LOGGER.info("Getting record for SWIFT code: {}", swiftCode);
+    @GetMapping(value = "/{swiftCode}", produces = {MediaType.APPLICATION_JSON_VALUE, WireFormatConfig.CBOR_V1_VALUE})
+    public ResponseEntity<Object> getBySwiftCode(@PathVariable String swiftCode,
+                                                 @RequestParam(defaultValue = SwiftCodeService.BRANCHES_LIST) String branches,
+                                                 @RequestParam(required = false) String fields,
+                                                 WebRequest request) {
+        LOGGER.debug("Getting record for SWIFT code: {}", swiftCode);
         try {
-            return ResponseEntity.ok(swiftCodeService.getSwiftCodeDetails(swiftCode));
+            boolean summary = isBranchCountMode(branches);
+            Set<String> projected = projection.parseFields(fields);
+            boolean binary = acceptsBinary(request);
+            String[] parameters = {parameter("branches", branches), parameter("fields", fields)};
+            if (!summary && fields == null && !binary && responseCache != null) {
+                SwiftCodeResponseCache.EncodedResponse response = responseCache.getSwiftCodeDetails(swiftCode);
+                return isNotModified(request, response.version(), parameters) ? null : encoded(response, request);
+            }
+            SwiftCodeVersionTracker.Version version = versionTracker.ofSwiftCode(swiftCode);
+            Object body = summary
+                    ? swiftCodeService.getSwiftCodeSummary(swiftCode)
+                    : swiftCodeService.getSwiftCodeDetails(swiftCode);
+            if (isNotModified(request, version, parameters)) return null;
+            return shaped(projection.write(body, projected, binary), binary, request);
         } catch (IllegalArgumentException e) {
             LOGGER.error(e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+            return badRequest(e);
         }
     }
 
-    @GetMapping("/country/{countryISO2}")
-    public ResponseEntity<Object> getByCountry(@PathVariable String countryISO2) {
-        LOGGER.info("Getting all SWIFT codes for country: {}", countryISO2);
+    @GetMapping(value = "/country/{countryISO2}", produces = {MediaType.APPLICATION_JSON_VALUE, WireFormatConfig.CBOR_V1_VALUE})
+    public ResponseEntity<Object> getByCountry(@PathVariable String countryISO2,
+                                               @RequestParam(required = false) Integer limit,
+                                               @RequestParam(required = false) String after,
+                                               @RequestParam(required = false) String fields,
+                                               @RequestParam(defaultValue = FORMAT_FULL) String format,
+                                               WebRequest request) {
+        LOGGER.debug("Getting all SWIFT codes for country: {}", countryISO2);
         try {
-            return ResponseEntity.ok(swiftCodeService.getSwiftCodesByCountry(countryISO2));
+            boolean compact = isCompactFormat(format);
+            Set<String> projected = projection.parseFields(fields);
+            boolean binary = acceptsBinary(request);
+            String[] parameters = {parameter("limit", limit), parameter("after", after), parameter("fields", fields),
+                    parameter("format", format)};
+            if (limit == null && after == null && !compact && fields == null && !binary && responseCache != null) {
+                SwiftCodeResponseCache.EncodedResponse response = responseCache.getSwiftCodesByCountry(countryISO2);
+                return isNotModified(request, response.version(), parameters) ? null : encoded(response, request);
+            }
+            SwiftCodeVersionTracker.Version version = versionTracker.ofCountry(countryISO2);
+            if (limit == null && after == null) {
+                CountrySwiftCodeDTO listing = swiftCodeService.getSwiftCodesByCountry(countryISO2);
+                if (isNotModified(request, version, parameters)) return null;
+                return shaped(compact
+                        ? projection.write(projection.compact(listing.getCountryISO2(), listing.getCountryName(),
+                                listing.getSwiftCodes(), null, projected), projected, binary)
+                        : projection.write(listing, projected, binary), binary, request);
+            }
+            CountrySwiftCodePageDTO page = swiftCodeService.getSwiftCodesByCountryPage(
+                    countryISO2, limit != null ? limit : DEFAULT_PAGE_SIZE, after);
+            if (isNotModified(request, version, parameters)) return null;
+            return shaped(compact
+                    ? projection.write(projection.compact(page.getCountryISO2(), page.getCountryName(),
+                            page.getSwiftCodes(), page.getNextCursor(), projected), projected, binary)
+                    : projection.write(page, projected, binary), binary, request);
         } catch (IllegalArgumentException e) {
             LOGGER.error(e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+            return badRequest(e);
+        }
+    }
+
+    @GetMapping("/country/{countryISO2}/stream")
+    public ResponseEntity<StreamingResponseBody> streamByCountry(@PathVariable String countryISO2) {
+        LOGGER.debug("Streaming all SWIFT codes for country: {}", countryISO2);
+        swiftCodeService.getCountry(countryISO2);
+        ObjectWriter writer = objectMapper.writerFor(SwiftCodeDTO.class);
+        StreamingResponseBody body = outputStream -> swiftCodeService.streamSwiftCodesByCountry(countryISO2, swiftCode -> {
+            try {
+                outputStream.write(writer.writeValueAsBytes(swiftCode));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @PostMapping(value = "/lookup", produces = {MediaType.APPLICATION_JSON_VALUE, WireFormatConfig.CBOR_V1_VALUE})
+    public ResponseEntity<Object> lookupSwiftCodes(@RequestBody SwiftCodeLookupRequestDTO requestDTO,
+                                                   @RequestParam(required = false) String fields,
+                                                   WebRequest request) {
+        LOGGER.debug("Looking up {} SWIFT codes", requestDTO.getSwiftCodes() != null ? requestDTO.getSwiftCodes().size() : 0);
+        try {
+            Set<String> projected = projection.parseFields(fields);
+            SwiftCodeLookupResponseDTO response = new SwiftCodeLookupResponseDTO(swiftCodeLookupService.lookup(requestDTO.getSwiftCodes()));
+            if (fields == null) return ResponseEntity.ok(response);
+            boolean binary = acceptsBinary(request);
+            return ResponseEntity.ok()
+                    .contentType(binary ? WireFormatConfig.CBOR_V1 : MediaType.APPLICATION_JSON)
+                    .body(projection.write(response, projected, binary));
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Error looking up SWIFT codes: {}", e.getMessage());
+            return badRequest(e);
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Object> search(@RequestParam(required = false) String q,
+                                         @RequestParam(required = false) Integer limit) {
+        LOGGER.debug("Searching SWIFT codes for: {}", q);
+        try {
+            return ResponseEntity.ok(new SwiftCodeSearchResponseDTO(swiftCodeSearchService.search(
+                    q, limit != null ? limit : SwiftCodeSearchService.DEFAULT_LIMIT)));
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Error searching SWIFT codes: {}", e.getMessage());
+            return badRequest(e);
         }
     }
 
     @PostMapping
     public ResponseEntity<Object> addSwiftCode(@RequestBody SwiftCodeDTO requestDTO) {
-        LOGGER.info("Adding SWIFT code: {}", requestDTO.getSwiftCode());
+        LOGGER.debug("Adding SWIFT code: {}", requestDTO.getSwiftCode());
         try {
             swiftCodeService.addSwiftCode(requestDTO);
             return ResponseEntity.ok().body(Map.of("message", "SWIFT code added successfully"));
         } catch (IllegalArgumentException e) {
             LOGGER.error("Error adding SWIFT code: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+            return badRequest(e);
+        }
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<Object> addSwiftCodes(@RequestBody SwiftCodeBulkAddRequestDTO requestDTO) {
+        LOGGER.debug("Adding {} SWIFT codes", requestDTO.getSwiftCodes() != null ? requestDTO.getSwiftCodes().size() : 0);
+        try {
+            return ResponseEntity.ok(swiftCodeBulkService.addSwiftCodes(requestDTO.getSwiftCodes()));
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Error adding SWIFT codes: {}", e.getMessage());
+            return badRequest(e);
+        }
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<Object> deleteSwiftCodes(@RequestBody SwiftCodeBulkDeleteRequestDTO requestDTO) {
+        LOGGER.debug("Deleting {} SWIFT codes", requestDTO.getSwiftCodes() != null ? requestDTO.getSwiftCodes().size() : 0);
+        try {
+            return ResponseEntity.ok(swiftCodeBulkService.deleteSwiftCodes(requestDTO.getSwiftCodes()));
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Error deleting SWIFT codes: {}", e.getMessage());
+            return badRequest(e);
+        }
+    }
+
+    @PostMapping("/sync")
+    public ResponseEntity<Object> syncSwiftCodes(@RequestParam("file") MultipartFile file,
+                                                 @RequestParam(defaultValue = "false") boolean force) {
+        LOGGER.debug("Synchronizing SWIFT codes with {}", file.getOriginalFilename());
+        try (InputStream inputStream = file.getInputStream()) {
+            return ResponseEntity.ok(swiftDirectorySyncService.sync(inputStream, force));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            LOGGER.error("Error synchronizing SWIFT codes: {}", e.getMessage());
+            return badRequest(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
     @DeleteMapping("/{swiftCode}")
     public ResponseEntity<Object> deleteSwiftCode(@PathVariable String swiftCode) {
-        LOGGER.info("Deleting SWIFT code: {}", swiftCode);
+        LOGGER.debug("Deleting SWIFT code: {}", swiftCode);
         try {
             swiftCodeService.deleteSwiftCode(swiftCode);
             return ResponseEntity.ok().body(Map.of("message", "SWIFT code deleted successfully"));
         } catch (IllegalArgumentException e) {
             LOGGER.error("Error deleting SWIFT code: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+            return badRequest(e);
+        }
+    }
+
+    static boolean isBranchCountMode(String branches) {
+        if (SwiftCodeService.BRANCHES_COUNT.equals(branches)) return true;
+        if (SwiftCodeService.BRANCHES_LIST.equals(branches)) return false;
+        throw new IllegalArgumentException("Invalid branches mode. Expected "
+                + SwiftCodeService.BRANCHES_LIST + " or " + SwiftCodeService.BRANCHES_COUNT);
+    }
+
+    private static boolean isCompactFormat(String format) {
+        if (FORMAT_COMPACT.equals(format)) return true;
+        if (FORMAT_FULL.equals(format)) return false;
+        throw new IllegalArgumentException("Invalid format. Expected " + FORMAT_FULL + " or " + FORMAT_COMPACT);
+    }
+
+    /**
+     * Whether the client prefers the binary wire format: it must list
+     * {@link WireFormatConfig#CBOR_V1} with a quality at least that of JSON. Bodies written by hand
+     * (projections, compact listings) are encoded according to this; DTOs returned as such are
+     * negotiated by the message converters.
+     */
+    static boolean acceptsBinary(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || !accept.contains(WireFormatConfig.CBOR_V1.getSubtype())) return false;
+        double binary = 0;
+        double json = 0;
+        for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+            if (mediaType.equalsTypeAndSubtype(WireFormatConfig.CBOR_V1)) {
+                binary = Math.max(binary, mediaType.getQualityValue());
+            } else if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                json = Math.max(json, mediaType.getQualityValue());
+            }
+        }
+        return binary > 0 && binary >= json;
+    }
+
+    /**
+     * Writes a body serialized outside the response cache, gzip-compressed when the client accepts it
+     * and the body reaches {@code server.compression.min-response-size}. These responses carry a strong
+     * ETag, which Tomcat's own compression skips, so they are compressed here.
+     */
+    private ResponseEntity<Object> shaped(byte[] body, boolean binary, WebRequest request) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(binary ? WireFormatConfig.CBOR_V1 : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (body.length >= gzipMinSize && Gzip.isAccepted(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(Gzip.compress(body));
         }
+        return builder.body(body);
+    }
+
+    private static ResponseEntity<Object> badRequest(RuntimeException e) {
+        SwiftCodeRequestMetrics.markFailure(e);
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+
+    /**
+     * Answers {@code If-None-Match}/{@code If-Modified-Since} with 304, and otherwise sets the ETag and
+     * Last-Modified headers of the 200 response about to be sent. Called only once the parameters are
+     * validated and the resource has been found, so neither a replayed tag nor {@code *} turns an error
+     * into a 304, and error responses carry no validators. {@code version} is read before the lookup;
+     * versions are bumped after the data changes, so the body is never older than its tag. The ETag
+     * identifies the representation, not just the data version: it also covers the {@code parameters}
+     * shaping the body, the negotiated media type and whether the body may be gzip-coded.
+     */
+    private static boolean isNotModified(WebRequest request, SwiftCodeVersionTracker.Version version, String... parameters) {
+        StringJoiner variant = new StringJoiner("&");
+        for (String parameter : parameters) {
+            if (parameter != null) variant.add(parameter);
+        }
+        variant.add(acceptsBinary(request) ? "cbor" : "json");
+        if (Gzip.isAccepted(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) variant.add("gzip");
+        String eTag = version.eTag(Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(variant.toString().getBytes(StandardCharsets.UTF_8)));
+        return request.checkNotModified(eTag, version.lastModified());
+    }
+
+    private static String parameter(String name, Object value) {
+        return value == null ? null : name + "=" + value;
+    }
+
+    /**
+     * Writes a pre-serialized body as is, gzip-compressed when the client accepts it and a compressed
+     * copy exists.
+     */
+    private static ResponseEntity<Object> encoded(SwiftCodeResponseCache.EncodedResponse response, WebRequest request) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (response.gzip() != null && Gzip.isAccepted(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzip());
+        }
+        return builder.body(response.json());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Object> handleIllegalArgument(IllegalArgumentException e) {
+        LOGGER.error(e.getMessage());
+        return badRequest(e);
     }
 }
@@ -0,0 +1,66 @@
+package remitly.task.swiftcode.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import remitly.task.swiftcode.service.SwiftCodeNotFoundException;
+
+/**
+ * Counts finished API requests by outcome as {@code swiftcode.requests}, tagged with the handler's
+ * URI pattern and HTTP method. Invalid input and missing records both answer 400, so handlers mark
+ * the failure they caught with {@link #markFailure}; unmarked responses are classified by status.
+ * Latency per endpoint is already recorded by Spring Boot as {@code http.server.requests}.
+ */
+@Component
+@RequiredArgsConstructor
+public class SwiftCodeRequestMetrics implements HandlerInterceptor {
+    public static final String METRIC = "swiftcode.requests";
+    private static final String OUTCOME_ATTRIBUTE = SwiftCodeRequestMetrics.class.getName() + ".outcome";
+
+    public enum Outcome {
+        SUCCESS, VALIDATION_FAILED, NOT_FOUND, ERROR;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Marks the request being handled on the current thread.
+     */
+    public static void markFailure(RuntimeException e) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            markFailure(attributes.getRequest(), e);
+        }
+    }
+
+    public static void markFailure(HttpServletRequest request, RuntimeException e) {
+        request.setAttribute(OUTCOME_ATTRIBUTE,
+                e instanceof SwiftCodeNotFoundException ? Outcome.NOT_FOUND : Outcome.VALIDATION_FAILED);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod)) return;
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        meterRegistry.counter(METRIC,
+                "uri", uri != null ? uri.toString() : "UNKNOWN",
+                "method", request.getMethod(),
+                "outcome", outcome(request, response, ex).tag()).increment();
+    }
+
+    private static Outcome outcome(HttpServletRequest request, HttpServletResponse response, Exception ex) {
+        if (request.getAttribute(OUTCOME_ATTRIBUTE) instanceof Outcome outcome) return outcome;
+        if (ex != null || response.getStatus() >= 500) return Outcome.ERROR;
+        return response.getStatus() >= 400 ? Outcome.VALIDATION_FAILED : Outcome.SUCCESS;
+    }
+}
@@ -0,0 +1,28 @@
+package remitly.task.swiftcode.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompactSwiftCodeListDTO {
+    @JsonProperty("countryISO2")
+    private String countryISO2;
+
+    @JsonProperty("countryName")
+    private String countryName;
+
+    @JsonProperty("columns")
+    private List<String> columns;
+
+    @JsonProperty("rows")
+    private List<Object[]> rows;
+
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+}
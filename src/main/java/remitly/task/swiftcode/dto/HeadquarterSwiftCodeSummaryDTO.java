@@ -0,0 +1,30 @@
+package remitly.task.swiftcode.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class HeadquarterSwiftCodeSummaryDTO {
+    @JsonProperty("address")
+    private String address;
+
+    @JsonProperty("bankName")
+    private String bankName;
+
+    @JsonProperty("countryISO2")
+    private String countryISO2;
+
+    @JsonProperty("countryName")
+    private String countryName;
+
+    @JsonProperty("isHeadquarter")
+    private boolean isHeadquarter;
+
+    @JsonProperty("swiftCode")
+    private String swiftCode;
+
+    @JsonProperty("branchCount")
+    private int branchCount;
+}
@@ -0,0 +1,16 @@
+package remitly.task.swiftcode.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwiftCodeBulkAddRequestDTO {
+    @JsonProperty("swiftCodes")
+    private List<SwiftCodeDTO> swiftCodes;
+}
@@ -0,0 +1,20 @@
+package remitly.task.swiftcode.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class SwiftCodeBulkResponseDTO {
+    @JsonProperty("applied")
+    private int applied;
+
+    @JsonProperty("failed")
+    private int failed;
+
+    @JsonProperty("results")
+    private List<SwiftCodeBulkResultDTO> results;
+}
@@ -0,0 +1,42 @@
+package remitly.task.swiftcode.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwiftCodeChangeDTO {
+    @JsonProperty("sequence")
+    private long sequence;
+
+    @JsonProperty("type")
+    private String type;
+
+    @JsonProperty("swiftCode")
+    private String swiftCode;
+
+    @JsonProperty("address")
+    private String address;
+
+    @JsonProperty("bankName")
+    private String bankName;
+
+    @JsonProperty("countryISO2")
+    private String countryISO2;
+
+    @JsonProperty("countryName")
+    private String countryName;
+
+    @JsonProperty("isHeadquarter")
+    private boolean isHeadquarter;
+
+    @JsonProperty("changedAt")
+    private Instant changedAt;
+}
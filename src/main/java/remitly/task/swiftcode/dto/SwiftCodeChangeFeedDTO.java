@@ -0,0 +1,19 @@
+package remitly.task.swiftcode.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwiftCodeChangeFeedDTO {
+    @JsonProperty("changes")
+    private List<SwiftCodeChangeDTO> changes;
+
+    @JsonProperty("latestSequence")
+    private long latestSequence;
+}
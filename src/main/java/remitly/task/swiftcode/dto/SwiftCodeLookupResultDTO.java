@@ -0,0 +1,23 @@
+package remitly.task.swiftcode.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SwiftCodeLookupResultDTO {
+    @JsonProperty("swiftCode")
+    private String swiftCode;
+
+    @JsonProperty("found")
+    private boolean found;
+
+    @JsonProperty("details")
+    private Object details;
+
+    @JsonProperty("message")
+    private String message;
+}
@@ -0,0 +1,21 @@
+package remitly.task.swiftcode.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class SwiftCodeRow {
+    String countryISO2;
+    String swiftCode;
+    String bankName;
+    String address;
+    String countryName;
+
+    /**
+     * Import rule for the spreadsheet: every code not ending in {@code XXX} is flagged as headquarters.
+     */
+    public boolean isHeadquarter() {
+        return !swiftCode.endsWith("XXX");
+    }
+}
@@ -0,0 +1,14 @@
+package remitly.task.swiftcode.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class SwiftCodeSearchResponseDTO {
+    @JsonProperty("results")
+    private List<SwiftCodeDTO> results;
+}
@@ -0,0 +1,24 @@
+package remitly.task.swiftcode.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SwiftDirectorySyncReportDTO {
+    @JsonProperty("inserted")
+    private int inserted;
+
+    @JsonProperty("updated")
+    private int updated;
+
+    @JsonProperty("deleted")
+    private int deleted;
+
+    @JsonProperty("unchanged")
+    private int unchanged;
+
+    @JsonProperty("durationMs")
+    private long durationMs;
+}
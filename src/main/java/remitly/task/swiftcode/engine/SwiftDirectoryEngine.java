@@ -0,0 +1,86 @@
+package remitly.task.swiftcode.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.service.SwiftCodeChangedEvent;
+import remitly.task.swiftcode.service.SwiftCodesChangedEvent;
+import remitly.task.swiftcode.utils.Chunks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the current {@link SwiftDirectorySnapshot} when {@code swiftcode.engine.mode=memory}.
+ * Readers take the volatile reference without locking; writers are serialized and publish a
+ * freshly built snapshot in a single reference swap.
+ */
+@Component
+@RequiredArgsConstructor
+public class SwiftDirectoryEngine implements SmartInitializingSingleton {
+    public static final String MEMORY_MODE = "memory";
+    private static final Logger LOGGER = LoggerFactory.getLogger(SwiftDirectoryEngine.class);
+
+    private final SwiftRepository swiftRepository;
+    private final CountryRepository countryRepository;
+
+    @Value("${swiftcode.engine.mode:jpa}")
+    private String mode;
+
+    private volatile SwiftDirectorySnapshot snapshot;
+
+    /**
+     * @return the published snapshot, or {@code null} when the engine is not enabled
+     */
+    public SwiftDirectorySnapshot current() {
+        return snapshot;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (MEMORY_MODE.equalsIgnoreCase(mode)) reload();
+    }
+
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        snapshot = SwiftDirectorySnapshot.build(countryRepository.findAll(), swiftRepository.findAll());
+        LOGGER.info("Loaded in-memory SWIFT directory with {} codes in {} ms",
+                snapshot.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void onSwiftCodeChanged(SwiftCodeChangedEvent event) {
+        if (snapshot == null) return;
+        switch (event.getType()) {
+            case ADDED -> swiftRepository.findBySwiftCode(event.getSwiftCode())
+                    .ifPresent(swift -> snapshot = snapshot.withAdded(swift));
+            case DELETED -> snapshot = snapshot.withRemoved(event.getSwiftCode());
+        }
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        if (snapshot == null) return;
+        List<String> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (SwiftCodeChangedEvent change : event.getChanges()) {
+            (change.getType() == SwiftCodeChangedEvent.Type.ADDED ? added : removed).add(change.getSwiftCode());
+        }
+        List<Swift> swifts = new ArrayList<>(added.size());
+        for (List<String> chunk : Chunks.of(added, Chunks.QUERY_CHUNK_SIZE)) {
+            swifts.addAll(swiftRepository.findAllBySwiftCodeIn(chunk));
+        }
+        snapshot = snapshot.withChanges(swifts, removed);
+    }
+}
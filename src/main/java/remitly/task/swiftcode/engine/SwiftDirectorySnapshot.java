@@ -0,0 +1,430 @@
+package remitly.task.swiftcode.engine;
+
+import remitly.task.swiftcode.dto.BranchSwiftCodeDTO;
+import remitly.task.swiftcode.dto.HeadquarterSwiftCodeDTO;
+import remitly.task.swiftcode.dto.HeadquarterSwiftCodeSummaryDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, packed copy of the {@code swifts}/{@code countries} tables.
+ * <p>
+ * Records are sorted by SWIFT code, stored as fixed 11-byte ASCII keys in one array and found by
+ * binary search. All other columns live in parallel primitive arrays; strings are deduplicated into
+ * a single table. A headquarters and its branches share the first 8 characters of the key, so they
+ * are adjacent; country → codes is an offset/index array. Reads return response DTOs built straight
+ * from the columns.
+ * <p>
+ * Instances are never mutated — a write merges its sorted changes into copies of the columns and
+ * shares the string and country tables unless it adds values to them.
+ */
+public final class SwiftDirectorySnapshot {
+    public static final int CODE_LENGTH = 11;
+    private static final int BASE_CODE_LENGTH = 8;
+
+    private final byte[] codes;
+    private final boolean[] headquarter;
+    private final int[] bankNames;
+    private final int[] addresses;
+    private final short[] countryOf;
+    private final String[] strings;
+    private final Country[] countries;
+    private final int[] countryOffsets;
+    private final int[] countryMembers;
+
+    private SwiftDirectorySnapshot(byte[] codes, boolean[] headquarter, int[] bankNames, int[] addresses,
+                                   short[] countryOf, String[] strings, Country[] countries) {
+        this.codes = codes;
+        this.headquarter = headquarter;
+        this.bankNames = bankNames;
+        this.addresses = addresses;
+        this.countryOf = countryOf;
+        this.strings = strings;
+        this.countries = countries;
+
+        countryOffsets = new int[countries.length + 1];
+        for (short country : countryOf) countryOffsets[country + 1]++;
+        for (int c = 0; c < countries.length; c++) countryOffsets[c + 1] += countryOffsets[c];
+        countryMembers = new int[countryOf.length];
+        int[] cursor = Arrays.copyOf(countryOffsets, countries.length);
+        for (int i = 0; i < countryOf.length; i++) countryMembers[cursor[countryOf[i]]++] = i;
+    }
+
+    public static SwiftDirectorySnapshot build(Collection<Country> countries, Collection<Swift> swifts) {
+        Map<String, Short> countryIds = new LinkedHashMap<>();
+        List<Country> countryTable = new ArrayList<>();
+        Stream.concat(countries.stream(), swifts.stream().map(Swift::getCountry)).forEach(country -> {
+            if (countryIds.putIfAbsent(country.getIso2(), (short) countryTable.size()) == null) {
+                countryTable.add(detached(country));
+            }
+        });
+        List<Swift> sorted = new ArrayList<>(swifts);
+        sorted.sort(Comparator.comparing(Swift::getSwiftCode));
+
+        int size = sorted.size();
+        byte[] codes = new byte[size * CODE_LENGTH];
+        boolean[] headquarter = new boolean[size];
+        int[] bankNames = new int[size];
+        int[] addresses = new int[size];
+        short[] countryOf = new short[size];
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<String> stringTable = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Swift swift = sorted.get(i);
+            System.arraycopy(swift.getSwiftCode().getBytes(StandardCharsets.US_ASCII), 0, codes, i * CODE_LENGTH, CODE_LENGTH);
+            headquarter[i] = swift.isHeadquarter();
+            bankNames[i] = intern(swift.getBankName(), stringIds, stringTable, 0);
+            addresses[i] = intern(swift.getAddress(), stringIds, stringTable, 0);
+            countryOf[i] = countryIds.get(swift.getCountry().getIso2());
+        }
+        return new SwiftDirectorySnapshot(codes, headquarter, bankNames, addresses, countryOf,
+                stringTable.toArray(String[]::new), countryTable.toArray(Country[]::new));
+    }
+
+    public static SwiftDirectorySnapshot empty() {
+        return build(List.of(), List.of());
+    }
+
+    public SwiftDirectorySnapshot withAdded(Swift swift) {
+        return withChanges(List.of(swift), List.of());
+    }
+
+    public SwiftDirectorySnapshot withRemoved(String swiftCode) {
+        return withChanges(List.of(), List.of(swiftCode));
+    }
+
+    /**
+     * Applies a whole batch of writes as one merge; added codes replace existing ones. Only the batch
+     * is sorted: kept records are copied over in runs and the additions are slotted in between them.
+     */
+    public SwiftDirectorySnapshot withChanges(Collection<Swift> added, Collection<String> removed) {
+        TreeMap<String, Swift> additions = new TreeMap<>();
+        added.forEach(swift -> additions.put(swift.getSwiftCode(), swift));
+        int[] dropped = Stream.concat(removed.stream(), additions.keySet().stream())
+                .mapToInt(this::indexOf)
+                .filter(index -> index >= 0)
+                .sorted()
+                .distinct()
+                .toArray();
+        if (additions.isEmpty() && dropped.length == 0) return this;
+
+        Merge merge = new Merge(size() - dropped.length + additions.size(), dropped);
+        int next = 0;
+        for (Swift swift : additions.values()) {
+            int position = lowerBound(swift.getSwiftCode());
+            merge.copy(next, position);
+            merge.insert(swift);
+            next = position;
+        }
+        merge.copy(next, size());
+        return merge.build();
+    }
+
+    public int size() {
+        return headquarter.length;
+    }
+
+    /**
+     * @return a {@link BranchSwiftCodeDTO}, or a {@link HeadquarterSwiftCodeDTO} with its branches
+     */
+    public Optional<Object> findDetails(String swiftCode) {
+        int index = indexOf(swiftCode);
+        if (index < 0) return Optional.empty();
+        if (!headquarter[index]) return Optional.of(branchAt(index));
+        Country country = countries[countryOf[index]];
+        return Optional.of(HeadquarterSwiftCodeDTO.builder()
+                .swiftCode(codeAt(index))
+                .address(string(addresses[index]))
+                .bankName(string(bankNames[index]))
+                .countryISO2(country.getIso2())
+                .countryName(country.getName())
+                .isHeadquarter(true)
+                .branches(branchesOf(index))
+                .build());
+    }
+
+    /**
+     * @return a {@link BranchSwiftCodeDTO}, or a {@link HeadquarterSwiftCodeSummaryDTO} with the number
+     * of its branches
+     */
+    public Optional<Object> findSummary(String swiftCode) {
+        int index = indexOf(swiftCode);
+        if (index < 0) return Optional.empty();
+        if (!headquarter[index]) return Optional.of(branchAt(index));
+        Country country = countries[countryOf[index]];
+        return Optional.of(HeadquarterSwiftCodeSummaryDTO.builder()
+                .swiftCode(codeAt(index))
+                .address(string(addresses[index]))
+                .bankName(string(bankNames[index]))
+                .countryISO2(country.getIso2())
+                .countryName(country.getName())
+                .isHeadquarter(true)
+                .branchCount(countBranches(index))
+                .build());
+    }
+
+    public List<SwiftCodeDTO> findBranches(String headquarterSwiftCode) {
+        int index = indexOf(headquarterSwiftCode);
+        return index < 0 || !headquarter[index] ? List.of() : branchesOf(index);
+    }
+
+    public List<SwiftCodeDTO> findAllByCountry(String iso2) {
+        return findAllByCountry(iso2, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return up to {@code limit} codes of the country in code order, starting after {@code after}
+     * when it is given
+     */
+    public List<SwiftCodeDTO> findAllByCountry(String iso2, String after, int limit) {
+        int country = countryIndex(iso2);
+        if (country < 0) return List.of();
+        int low = countryOffsets[country];
+        int high = countryOffsets[country + 1];
+        if (after != null) {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareAt(countryMembers[mid], after) <= 0) low = mid + 1;
+                else high = mid;
+            }
+        }
+        int end = (int) Math.min(countryOffsets[country + 1], (long) low + limit);
+        List<SwiftCodeDTO> result = new ArrayList<>(end - low);
+        for (int i = low; i < end; i++) result.add(swiftCodeAt(countryMembers[i]));
+        return result;
+    }
+
+    private int indexOf(String swiftCode) {
+        if (swiftCode == null || swiftCode.length() != CODE_LENGTH) return -1;
+        int index = lowerBound(swiftCode);
+        return index < size() && compareAt(index, swiftCode) == 0 ? index : -1;
+    }
+
+    /**
+     * @return the index of the first code not below {@code swiftCode}, where it would be inserted
+     */
+    private int lowerBound(String swiftCode) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareAt(mid, swiftCode) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private int compareAt(int index, String swiftCode) {
+        int offset = index * CODE_LENGTH;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            int diff = (codes[offset + i] & 0xFF) - swiftCode.charAt(i);
+            if (diff != 0) return diff;
+        }
+        return 0;
+    }
+
+    private boolean sameBase(int left, int right) {
+        return Arrays.equals(codes, left * CODE_LENGTH, left * CODE_LENGTH + BASE_CODE_LENGTH,
+                codes, right * CODE_LENGTH, right * CODE_LENGTH + BASE_CODE_LENGTH);
+    }
+
+    private int groupStart(int index) {
+        int start = index;
+        while (start > 0 && sameBase(start - 1, index)) start--;
+        return start;
+    }
+
+    private int groupEnd(int index) {
+        int end = index + 1;
+        while (end < size() && sameBase(end, index)) end++;
+        return end;
+    }
+
+    private List<SwiftCodeDTO> branchesOf(int index) {
+        int end = groupEnd(index);
+        List<SwiftCodeDTO> branches = new ArrayList<>();
+        for (int i = groupStart(index); i < end; i++) {
+            if (!headquarter[i]) branches.add(swiftCodeAt(i));
+        }
+        return branches;
+    }
+
+    private int countBranches(int index) {
+        int end = groupEnd(index);
+        int count = 0;
+        for (int i = groupStart(index); i < end; i++) {
+            if (!headquarter[i]) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Country names are served by {@code CountryCache}; the table here is only a few hundred entries,
+     * so a scan is enough to resolve a listing.
+     */
+    private int countryIndex(String iso2) {
+        if (iso2 == null) return -1;
+        for (int c = 0; c < countries.length; c++) {
+            if (countries[c].getIso2().equalsIgnoreCase(iso2)) return c;
+        }
+        return -1;
+    }
+
+    private String codeAt(int index) {
+        return new String(codes, index * CODE_LENGTH, CODE_LENGTH, StandardCharsets.US_ASCII);
+    }
+
+    private BranchSwiftCodeDTO branchAt(int index) {
+        Country country = countries[countryOf[index]];
+        return BranchSwiftCodeDTO.builder()
+                .swiftCode(codeAt(index))
+                .address(string(addresses[index]))
+                .bankName(string(bankNames[index]))
+                .countryISO2(country.getIso2())
+                .countryName(country.getName())
+                .isHeadquarter(false)
+                .build();
+    }
+
+    private SwiftCodeDTO swiftCodeAt(int index) {
+        return SwiftCodeDTO.builder()
+                .swiftCode(codeAt(index))
+                .address(string(addresses[index]))
+                .bankName(string(bankNames[index]))
+                .countryISO2(countries[countryOf[index]].getIso2())
+                .isHeadquarter(headquarter[index])
+                .build();
+    }
+
+    private String string(int id) {
+        return id < 0 ? null : strings[id];
+    }
+
+    private static int intern(String value, Map<String, Integer> ids, List<String> table, int base) {
+        if (value == null) return -1;
+        return ids.computeIfAbsent(value, s -> {
+            table.add(s);
+            return base + table.size() - 1;
+        });
+    }
+
+    private static <T> T[] concat(T[] head, List<T> tail) {
+        T[] result = Arrays.copyOf(head, head.length + tail.size());
+        for (int i = 0; i < tail.size(); i++) result[head.length + i] = tail.get(i);
+        return result;
+    }
+
+    private static Country detached(Country source) {
+        Country country = new Country(source.getName(), source.getIso2());
+        country.setId(source.getId());
+        return country;
+    }
+
+    /**
+     * Columns of the snapshot a write produces, filled in code order from kept runs of this snapshot
+     * and the added records.
+     */
+    private final class Merge {
+        private final byte[] codes;
+        private final boolean[] headquarter;
+        private final int[] bankNames;
+        private final int[] addresses;
+        private final short[] countryOf;
+        private final int[] dropped;
+        private final Map<String, Integer> addedStringIds = new HashMap<>();
+        private final List<String> addedStrings = new ArrayList<>();
+        private final List<Country> addedCountries = new ArrayList<>();
+        private int target;
+        private int nextDropped;
+
+        private Merge(int size, int[] dropped) {
+            codes = new byte[size * CODE_LENGTH];
+            headquarter = new boolean[size];
+            bankNames = new int[size];
+            addresses = new int[size];
+            countryOf = new short[size];
+            this.dropped = dropped;
+        }
+
+        /**
+         * Copies the records in {@code [from, to)} that are neither removed nor replaced.
+         */
+        private void copy(int from, int to) {
+            while (from < to) {
+                while (nextDropped < dropped.length && dropped[nextDropped] < from) nextDropped++;
+                int end = nextDropped < dropped.length ? Math.min(to, dropped[nextDropped]) : to;
+                int length = end - from;
+                System.arraycopy(SwiftDirectorySnapshot.this.codes, from * CODE_LENGTH, codes, target * CODE_LENGTH, length * CODE_LENGTH);
+                System.arraycopy(SwiftDirectorySnapshot.this.headquarter, from, headquarter, target, length);
+                System.arraycopy(SwiftDirectorySnapshot.this.bankNames, from, bankNames, target, length);
+                System.arraycopy(SwiftDirectorySnapshot.this.addresses, from, addresses, target, length);
+                System.arraycopy(SwiftDirectorySnapshot.this.countryOf, from, countryOf, target, length);
+                target += length;
+                from = end < to ? end + 1 : end;
+            }
+        }
+
+        private void insert(Swift swift) {
+            System.arraycopy(swift.getSwiftCode().getBytes(StandardCharsets.US_ASCII), 0, codes, target * CODE_LENGTH, CODE_LENGTH);
+            headquarter[target] = swift.isHeadquarter();
+            bankNames[target] = intern(swift.getBankName(), addedStringIds, addedStrings, strings.length);
+            addresses[target] = intern(swift.getAddress(), addedStringIds, addedStrings, strings.length);
+            countryOf[target] = country(swift.getCountry());
+            target++;
+        }
+
+        private short country(Country country) {
+            for (int c = 0; c < countries.length; c++) {
+                if (countries[c].getIso2().equals(country.getIso2())) return (short) c;
+            }
+            for (int c = 0; c < addedCountries.size(); c++) {
+                if (addedCountries.get(c).getIso2().equals(country.getIso2())) return (short) (countries.length + c);
+            }
+            addedCountries.add(detached(country));
+            return (short) (countries.length + addedCountries.size() - 1);
+        }
+
+        private SwiftDirectorySnapshot build() {
+            String[] stringTable = addedStrings.isEmpty() ? strings : concat(strings, addedStrings);
+            if (stringTable.length > 4 * headquarter.length + 64) stringTable = compact(stringTable);
+            Country[] countryTable = addedCountries.isEmpty() ? countries : concat(countries, addedCountries);
+            return new SwiftDirectorySnapshot(codes, headquarter, bankNames, addresses, countryOf, stringTable, countryTable);
+        }
+
+        /**
+         * Drops strings no record refers to any more, once removed and replaced records have left
+         * more of them than there are references.
+         */
+        private String[] compact(String[] table) {
+            int[] remap = new int[table.length];
+            Arrays.fill(remap, -1);
+            List<String> live = new ArrayList<>();
+            for (int[] column : List.of(bankNames, addresses)) {
+                for (int i = 0; i < column.length; i++) {
+                    int id = column[i];
+                    if (id < 0) continue;
+                    if (remap[id] < 0) {
+                        remap[id] = live.size();
+                        live.add(table[id]);
+                    }
+                    column[i] = remap[id];
+                }
+            }
+            return live.toArray(String[]::new);
+        }
+    }
+}
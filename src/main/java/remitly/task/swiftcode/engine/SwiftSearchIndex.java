@@ -0,0 +1,170 @@
+package remitly.task.swiftcode.engine;
+
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Type-ahead index over SWIFT codes, bank names and addresses.
+ * <p>
+ * Codes are kept in a sorted map, so a code prefix is a range scan. Bank names and addresses are
+ * split into upper-case words and indexed in a sorted inverted index (word to the codes containing
+ * it), so every query word matches as a prefix of an indexed word: {@code "santan wroc"} finds
+ * {@code SANTANDER ... WROCLAW}. A multi-word query is driven by its most selective word (fewest
+ * postings over its prefix range) and the candidates are checked against the other words with a
+ * binary search over the entry's own sorted words. Scans stop as soon as {@code limit} results are
+ * collected.
+ * <p>
+ * Reads are lock-free; writes are serialized so that an entry and its postings change together.
+ */
+public class SwiftSearchIndex {
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+
+    private final ConcurrentSkipListMap<String, Entry> codes = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Postings> words = new ConcurrentSkipListMap<>();
+
+    public synchronized void add(SwiftCodeDTO swiftCode) {
+        remove(swiftCode.getSwiftCode());
+        Entry entry = new Entry(swiftCode, words(swiftCode.getBankName(), swiftCode.getAddress()));
+        codes.put(swiftCode.getSwiftCode(), entry);
+        for (String word : entry.words()) {
+            words.computeIfAbsent(word, key -> new Postings()).add(swiftCode.getSwiftCode());
+        }
+    }
+
+    public synchronized void remove(String swiftCode) {
+        Entry entry = codes.remove(swiftCode);
+        if (entry == null) return;
+        for (String word : entry.words()) {
+            words.computeIfPresent(word, (key, postings) -> postings.remove(swiftCode) ? null : postings);
+        }
+    }
+
+    public synchronized void clear() {
+        codes.clear();
+        words.clear();
+    }
+
+    public int size() {
+        return codes.size();
+    }
+
+    /**
+     * @param query free text; a single word also matches as a SWIFT code prefix, ahead of text matches
+     * @return at most {@code limit} matches, code prefix matches first
+     */
+    public List<SwiftCodeDTO> search(String query, int limit) {
+        String[] queryWords = words(query);
+        Map<String, SwiftCodeDTO> results = new LinkedHashMap<>();
+        if (queryWords.length == 0) return List.of();
+        if (queryWords.length == 1) {
+            for (Entry entry : prefixRange(codes, queryWords[0]).values()) {
+                results.put(entry.swiftCode().getSwiftCode(), entry.swiftCode());
+                if (results.size() == limit) return new ArrayList<>(results.values());
+            }
+        }
+        String driver = queryWords.length == 1 ? queryWords[0] : mostSelective(queryWords);
+        if (driver == null) return new ArrayList<>(results.values());
+        for (Postings postings : prefixRange(words, driver).values()) {
+            for (String code : postings.codes) {
+                if (results.containsKey(code)) continue;
+                Entry entry = codes.get(code);
+                if (entry == null || !entry.matchesAll(queryWords)) continue;
+                results.put(code, entry.swiftCode());
+                if (results.size() == limit) return new ArrayList<>(results.values());
+            }
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * @return the word with the fewest postings over its prefix range, or {@code null} when a word
+     * matches nothing. Longer words are counted first, so the running minimum caps the later counts.
+     */
+    private String mostSelective(String[] queryWords) {
+        String[] byLength = queryWords.clone();
+        Arrays.sort(byLength, (first, second) -> second.length() - first.length());
+        String driver = null;
+        long driverCount = Long.MAX_VALUE;
+        for (String word : byLength) {
+            long count = 0;
+            for (Postings postings : prefixRange(words, word).values()) {
+                count += postings.size;
+                if (count >= driverCount) break;
+            }
+            if (count == 0) return null;
+            if (count < driverCount) {
+                driver = word;
+                driverCount = count;
+            }
+        }
+        return driver;
+    }
+
+    private static <V> NavigableMap<String, V> prefixRange(NavigableMap<String, V> map, String prefix) {
+        return map.subMap(prefix, true, prefix + MAX_CHAR, false);
+    }
+
+    /**
+     * Distinct upper-case runs of letters and digits, sorted.
+     */
+    static String[] words(String... values) {
+        Set<String> words = new TreeSet<>();
+        for (String value : values) {
+            if (value == null) continue;
+            String upper = value.toUpperCase(Locale.ROOT);
+            int start = -1;
+            for (int i = 0; i <= upper.length(); i++) {
+                boolean wordChar = i < upper.length() && Character.isLetterOrDigit(upper.charAt(i));
+                if (wordChar && start < 0) start = i;
+                if (!wordChar && start >= 0) {
+                    words.add(upper.substring(start, i));
+                    start = -1;
+                }
+            }
+        }
+        return words.toArray(String[]::new);
+    }
+
+    /**
+     * Codes containing one word, in code order. The size is kept alongside because counting a
+     * concurrent set is linear; it is only written under the index lock.
+     */
+    private static final class Postings {
+        private final Set<String> codes = new ConcurrentSkipListSet<>();
+        private volatile int size;
+
+        void add(String swiftCode) {
+            if (codes.add(swiftCode)) size++;
+        }
+
+        /**
+         * @return whether no code is left
+         */
+        boolean remove(String swiftCode) {
+            if (codes.remove(swiftCode)) size--;
+            return size == 0;
+        }
+    }
+
+    private record Entry(SwiftCodeDTO swiftCode, String[] words) {
+        boolean matchesAll(String[] prefixes) {
+            for (String prefix : prefixes) {
+                int index = Arrays.binarySearch(words, prefix);
+                if (index < 0) index = -index - 1;
+                if (index == words.length || !words[index].startsWith(prefix)) return false;
+            }
+            return true;
+        }
+    }
+}
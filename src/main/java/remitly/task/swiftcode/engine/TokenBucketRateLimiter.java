@@ -0,0 +1,62 @@
+package remitly.task.swiftcode.engine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets admitting {@code permitsPerSecond} on average with bursts of up to
+ * {@code burst} requests.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the time at which it will be full again (the
+ * generic cell rate algorithm form of a token bucket): admitting a request pushes that time forward by
+ * one emission interval with a compare-and-set, and a request that would push it further than
+ * {@code burst} intervals ahead is rejected without changing it. There are no locks and no refill
+ * timers. Idle buckets are full buckets, so they are simply dropped after {@code idleExpiry}, and the
+ * number of tracked clients is bounded.
+ */
+public class TokenBucketRateLimiter {
+    private static final long FULL = Long.MIN_VALUE;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, Duration idleExpiry, long maximumClients,
+                                  LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit needs a positive rate and a burst of at least 1");
+        }
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000 / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleExpiry)
+                .maximumSize(maximumClients)
+                .build();
+    }
+
+    /**
+     * @return {@code 0} when the request is admitted, otherwise the nanoseconds until the client's
+     * next request would be
+     */
+    public long tryAcquire(String client) {
+        AtomicLong bucket = buckets.get(client, key -> new AtomicLong(FULL));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) return wait;
+            if (bucket.compareAndSet(fullAt, next)) return 0;
+        }
+    }
+
+    public long trackedClients() {
+        return buckets.estimatedSize();
+    }
+}
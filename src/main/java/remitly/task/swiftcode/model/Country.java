@@ -6,7 +6,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,7 +19,7 @@ import java.util.List;
 @Data
 @Entity
 @NoArgsConstructor
-@Table(name = "countries")
+@Table(name = "countries", indexes = @Index(name = "idx_countries_iso2", columnList = "iso2", unique = true))
 public class Country {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +35,12 @@ public class Country {
 
     public Country(String name, String iso2) {
         this.name = name;
-        this.iso2 = iso2;
+        this.iso2 = iso2.toUpperCase();
+    }
+
+    @PrePersist
+    @PreUpdate
+    void normalizeKeys() {
+        iso2 = iso2.toUpperCase();
     }
 }
@@ -0,0 +1,25 @@
+package remitly.task.swiftcode.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sequence number of the last change a follower applied from a leader's change log.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "replication_cursors")
+public class ReplicationCursor {
+    @Id
+    private String source;
+
+    @Column(nullable = false)
+    private long sequence;
+}
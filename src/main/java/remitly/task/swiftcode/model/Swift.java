@@ -5,8 +5,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,7 +17,10 @@ import lombok.NoArgsConstructor;
 @Data
 @Entity
 @NoArgsConstructor
-@Table(name = "swifts")
+@Table(name = "swifts", indexes = {
+        @Index(name = "idx_swifts_base_code_hq", columnList = "base_swift_code, is_headquarter"),
+        @Index(name = "idx_swifts_country_id", columnList = "country_id")
+})
 public class Swift {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,6 +28,7 @@ public class Swift {
 
     @Column(name = "swift_code", nullable = false, unique = true)
     private String swiftCode;
+    @Column(name = "base_swift_code")
     private String baseSwiftCode;
 
     private String address;
@@ -36,11 +43,18 @@ public class Swift {
     private Country country;
 
     public Swift(String swiftCode, String address, String bankName, boolean isHeadquarter, Country country) {
-        this.swiftCode = swiftCode;
+        this.swiftCode = swiftCode.toUpperCase();
         this.address = address;
         this.bankName = bankName;
         this.isHeadquarter = isHeadquarter;
         this.country = country;
+        baseSwiftCode = this.swiftCode.substring(0, 8);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void normalizeKeys() {
+        swiftCode = swiftCode.toUpperCase();
         baseSwiftCode = swiftCode.substring(0, 8);
     }
 }
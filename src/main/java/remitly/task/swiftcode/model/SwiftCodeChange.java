@@ -0,0 +1,75 @@
+package remitly.task.swiftcode.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One entry of the append-only change log; {@code id} is the entry's sequence number. An
+ * {@code ADDED} entry carries the full row as it is after the write (inserts and updates alike), a
+ * {@code DELETED} entry only the code and its country.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "swift_code_changes")
+public class SwiftCodeChange {
+    public enum Type { ADDED, DELETED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private Type type;
+
+    @Column(name = "swift_code", nullable = false)
+    private String swiftCode;
+
+    private String address;
+    @Column(name = "bank_name")
+    private String bankName;
+
+    @Column(name = "country_iso2", length = 2)
+    private String countryISO2;
+    @Column(name = "country_name")
+    private String countryName;
+
+    @Column(name = "is_headquarter")
+    private boolean isHeadquarter;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    public static SwiftCodeChange added(Swift swift) {
+        SwiftCodeChange change = new SwiftCodeChange();
+        change.type = Type.ADDED;
+        change.swiftCode = swift.getSwiftCode();
+        change.address = swift.getAddress();
+        change.bankName = swift.getBankName();
+        change.countryISO2 = swift.getCountry().getIso2();
+        change.countryName = swift.getCountry().getName();
+        change.isHeadquarter = swift.isHeadquarter();
+        change.changedAt = Instant.now();
+        return change;
+    }
+
+    public static SwiftCodeChange deleted(String swiftCode, String countryISO2) {
+        SwiftCodeChange change = new SwiftCodeChange();
+        change.type = Type.DELETED;
+        change.swiftCode = swiftCode;
+        change.countryISO2 = countryISO2;
+        change.changedAt = Instant.now();
+        return change;
+    }
+}
@@ -3,8 +3,12 @@ package remitly.task.swiftcode.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import remitly.task.swiftcode.model.Country;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CountryRepository extends JpaRepository<Country, Long> {
     Optional<Country> findByIso2(String isoCode);
+
+    List<Country> findAllByIso2In(Collection<String> isoCodes);
 }
@@ -0,0 +1,48 @@
+package remitly.task.swiftcode.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements Hibernate prepares on behalf of the current request. Registered as the
+ * session factory's statement inspector; counting is a no-op on threads without a started counter.
+ * JDBC batch writes of {@link SwiftBatchRepository} bypass Hibernate and are not counted.
+ */
+public class QueryCounter implements StatementInspector {
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+    public static AtomicInteger start() {
+        AtomicInteger counter = new AtomicInteger();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the task counting into the current thread's counter, wherever it runs
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        AtomicInteger counter = CURRENT.get();
+        if (counter == null) return task;
+        return () -> {
+            CURRENT.set(counter);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger counter = CURRENT.get();
+        if (counter != null) counter.incrementAndGet();
+        return sql;
+    }
+}
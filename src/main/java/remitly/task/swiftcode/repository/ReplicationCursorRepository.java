@@ -0,0 +1,7 @@
+package remitly.task.swiftcode.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import remitly.task.swiftcode.model.ReplicationCursor;
+
+public interface ReplicationCursorRepository extends JpaRepository<ReplicationCursor, String> {
+}
@@ -0,0 +1,76 @@
+package remitly.task.swiftcode.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.model.SwiftCodeChange;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Plain JDBC batch writes for {@link Swift} rows. Hibernate cannot batch inserts of entities using
+ * {@code GenerationType.IDENTITY}, so bulk loads go through here instead of {@link SwiftRepository}.
+ * The same holds for the {@link SwiftCodeChange} entries appended alongside those writes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SwiftBatchRepository {
+    private static final String INSERT_SQL = "insert into swifts "
+            + "(swift_code, base_swift_code, address, bank_name, is_headquarter, country_id) values (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "update swifts "
+            + "set address = ?, bank_name = ?, is_headquarter = ?, country_id = ? where swift_code = ?";
+
+    private static final String DELETE_SQL = "delete from swifts where swift_code = ?";
+
+    private static final String INSERT_CHANGE_SQL = "insert into swift_code_changes "
+            + "(type, swift_code, address, bank_name, country_iso2, country_name, is_headquarter, changed_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void insertAll(List<Swift> swifts) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, swifts, swifts.size(), (ps, swift) -> {
+            ps.setString(1, swift.getSwiftCode());
+            ps.setString(2, swift.getBaseSwiftCode());
+            ps.setString(3, swift.getAddress());
+            ps.setString(4, swift.getBankName());
+            ps.setBoolean(5, swift.isHeadquarter());
+            ps.setLong(6, swift.getCountry().getId());
+        });
+    }
+
+    @Transactional
+    public void updateAll(List<Swift> swifts) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, swifts, swifts.size(), (ps, swift) -> {
+            ps.setString(1, swift.getAddress());
+            ps.setString(2, swift.getBankName());
+            ps.setBoolean(3, swift.isHeadquarter());
+            ps.setLong(4, swift.getCountry().getId());
+            ps.setString(5, swift.getSwiftCode());
+        });
+    }
+
+    @Transactional
+    public void deleteAll(List<String> swiftCodes) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, swiftCodes, swiftCodes.size(), (ps, swiftCode) -> ps.setString(1, swiftCode));
+    }
+
+    @Transactional
+    public void insertChanges(List<SwiftCodeChange> changes) {
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setString(1, change.getType().name());
+            ps.setString(2, change.getSwiftCode());
+            ps.setString(3, change.getAddress());
+            ps.setString(4, change.getBankName());
+            ps.setString(5, change.getCountryISO2());
+            ps.setString(6, change.getCountryName());
+            ps.setBoolean(7, change.isHeadquarter());
+            ps.setTimestamp(8, Timestamp.from(change.getChangedAt()));
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package remitly.task.swiftcode.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import remitly.task.swiftcode.model.SwiftCodeChange;
+
+import java.util.List;
+
+public interface SwiftCodeChangeRepository extends JpaRepository<SwiftCodeChange, Long> {
+    List<SwiftCodeChange> findByIdGreaterThanOrderByIdAsc(long after, Limit limit);
+
+    @Query("select coalesce(max(c.id), 0) from SwiftCodeChange c")
+    long findLatestSequence();
+}
@@ -1,13 +1,65 @@
 package remitly.task.swiftcode.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
 import remitly.task.swiftcode.model.Swift;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface SwiftRepository extends JpaRepository<Swift, Long> {
-    List<Swift> findAllByBaseSwiftCodeAndIsHeadquarterFalse(String baseSwiftCode);
+    @EntityGraph(attributePaths = "country")
     Optional<Swift> findBySwiftCode(String swiftCode);
-    List<Swift> findAllByCountryIso2IgnoreCase(String iso2);
+
+    @EntityGraph(attributePaths = "country")
+    List<Swift> findAllBySwiftCodeIn(Collection<String> swiftCodes);
+
+    @Query("select s.swiftCode from Swift s where s.swiftCode in :swiftCodes")
+    List<String> findExistingSwiftCodes(@Param("swiftCodes") Collection<String> swiftCodes);
+
+    @Override
+    @EntityGraph(attributePaths = "country")
+    List<Swift> findAll();
+
+    @Query("select new remitly.task.swiftcode.dto.SwiftCodeDTO(s.address, s.bankName, c.iso2, s.isHeadquarter, s.swiftCode) "
+            + "from Swift s join s.country c")
+    List<SwiftCodeDTO> findAllSwiftCodeDTOs();
+
+    @Query("select new remitly.task.swiftcode.dto.SwiftCodeDTO(s.address, s.bankName, c.iso2, s.isHeadquarter, s.swiftCode) "
+            + "from Swift s join s.country c where s.swiftCode in :swiftCodes")
+    List<SwiftCodeDTO> findSwiftCodeDTOsBySwiftCodeIn(@Param("swiftCodes") Collection<String> swiftCodes);
+
+    @Query("select new remitly.task.swiftcode.dto.SwiftCodeDTO(s.address, s.bankName, c.iso2, s.isHeadquarter, s.swiftCode) "
+            + "from Swift s join s.country c where s.isHeadquarter = false order by s.id")
+    List<SwiftCodeDTO> findAllBranchDTOs();
+
+    @Query("select new remitly.task.swiftcode.dto.SwiftCodeDTO(s.address, s.bankName, c.iso2, s.isHeadquarter, s.swiftCode) "
+            + "from Swift s join s.country c where s.baseSwiftCode = :baseSwiftCode and s.isHeadquarter = false order by s.id")
+    List<SwiftCodeDTO> findBranchDTOsByBaseSwiftCode(@Param("baseSwiftCode") String baseSwiftCode);
+
+    @Query("select new remitly.task.swiftcode.dto.SwiftCodeDTO(s.address, s.bankName, c.iso2, s.isHeadquarter, s.swiftCode) "
+            + "from Swift s join s.country c where s.baseSwiftCode in :baseSwiftCodes and s.isHeadquarter = false order by s.id")
+    List<SwiftCodeDTO> findBranchDTOsByBaseSwiftCodeIn(@Param("baseSwiftCodes") Collection<String> baseSwiftCodes);
+
+    @Query("select new remitly.task.swiftcode.dto.SwiftCodeDTO(s.address, s.bankName, c.iso2, s.isHeadquarter, s.swiftCode) "
+            + "from Swift s join s.country c where c.iso2 = :iso2 order by s.id")
+    List<SwiftCodeDTO> findSwiftCodeDTOsByCountryIso2(@Param("iso2") String iso2);
+
+    @Query("select new remitly.task.swiftcode.dto.SwiftCodeDTO(s.address, s.bankName, c.iso2, s.isHeadquarter, s.swiftCode) "
+            + "from Swift s join s.country c where c.iso2 = :iso2 and s.swiftCode > :after order by s.swiftCode")
+    List<SwiftCodeDTO> findSwiftCodeDTOsByCountryIso2After(@Param("iso2") String iso2, @Param("after") String after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new remitly.task.swiftcode.dto.SwiftCodeDTO(s.address, s.bankName, c.iso2, s.isHeadquarter, s.swiftCode) "
+            + "from Swift s join s.country c where c.iso2 = :iso2 order by s.swiftCode")
+    Stream<SwiftCodeDTO> streamSwiftCodeDTOsByCountryIso2(@Param("iso2") String iso2);
 }
@@ -0,0 +1,88 @@
+package remitly.task.swiftcode.service;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.repository.CountryRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Every stored country, kept in memory so that resolving a country by ISO2 code needs no query. The
+ * countries sit in an array of 26×26 slots indexed by the two letters of the code, loaded once all
+ * beans are created (after the initial import) and replaced as a whole, never modified in place.
+ * <p>
+ * Countries are only ever created together with a SWIFT code of that country, so the array is
+ * reloaded when a write adds a code of a country it does not hold yet, before caches are evicted.
+ */
+@Component
+@RequiredArgsConstructor
+public class CountryCache implements SmartInitializingSingleton {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CountryCache.class);
+    private static final int LETTERS = 26;
+
+    private final CountryRepository countryRepository;
+    private volatile Country[] countries = new Country[LETTERS * LETTERS];
+
+    /**
+     * @return the country with this ISO2 code; empty when there is none or the code is not two uppercase letters
+     */
+    public Optional<Country> find(String iso2) {
+        int slot = slot(iso2);
+        return slot < 0 ? Optional.empty() : Optional.ofNullable(countries[slot]);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        Country[] loaded = new Country[LETTERS * LETTERS];
+        int count = 0;
+        for (Country country : countryRepository.findAll()) {
+            int slot = slot(country.getIso2());
+            if (slot < 0) continue;
+            loaded[slot] = country;
+            count++;
+        }
+        countries = loaded;
+        LOGGER.info("Loaded {} countries", count);
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onSwiftCodeChanged(SwiftCodeChangedEvent event) {
+        refresh(List.of(event));
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        refresh(event.getChanges());
+    }
+
+    private void refresh(List<SwiftCodeChangedEvent> changes) {
+        for (SwiftCodeChangedEvent change : changes) {
+            if (change.getType() == SwiftCodeChangedEvent.Type.ADDED && find(change.getCountryISO2()).isEmpty()) {
+                reload();
+                return;
+            }
+        }
+    }
+
+    private static int slot(String iso2) {
+        if (iso2 == null || iso2.length() != 2) return -1;
+        int first = iso2.charAt(0) - 'A';
+        int second = iso2.charAt(1) - 'A';
+        if (first < 0 || first >= LETTERS || second < 0 || second >= LETTERS) return -1;
+        return first * LETTERS + second;
+    }
+}
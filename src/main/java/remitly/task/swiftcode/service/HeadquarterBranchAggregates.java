@@ -0,0 +1,125 @@
+package remitly.task.swiftcode.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.engine.SwiftDirectoryEngine;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.utils.Chunks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Branch list and branch count of every {@code baseSwiftCode}, kept in memory so that a headquarters
+ * lookup reads its branches with one keyed read instead of a second query. The aggregates are built
+ * once at startup and then rebuilt for the base codes touched by each single or bulk write, before
+ * caches are evicted, so a reader that misses the cache always sees the new branches.
+ * <p>
+ * Each aggregate is immutable and replaced as a whole. Not loaded in {@code memory} engine mode,
+ * where the directory snapshot already answers branch lookups from memory.
+ */
+@Component
+public class HeadquarterBranchAggregates implements SmartInitializingSingleton {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadquarterBranchAggregates.class);
+    private static final int BASE_SWIFT_CODE_LENGTH = 8;
+
+    private final SwiftRepository swiftRepository;
+    private final boolean enabled;
+    private final Map<String, Aggregate> aggregates = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HeadquarterBranchAggregates(SwiftRepository swiftRepository,
+                                       @Value("${swiftcode.engine.mode:jpa}") String engineMode) {
+        this.swiftRepository = swiftRepository;
+        this.enabled = !SwiftDirectoryEngine.MEMORY_MODE.equalsIgnoreCase(engineMode);
+    }
+
+    /**
+     * @return the branches of {@code baseSwiftCode} in insertion order; empty when it has none
+     */
+    public Aggregate find(String baseSwiftCode) {
+        return aggregates.getOrDefault(baseSwiftCode, Aggregate.EMPTY);
+    }
+
+    public int size() {
+        return aggregates.size();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) reload();
+    }
+
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        Map<String, List<SwiftCodeDTO>> branches = new HashMap<>();
+        for (SwiftCodeDTO branch : swiftRepository.findAllBranchDTOs()) {
+            branches.computeIfAbsent(baseSwiftCode(branch.getSwiftCode()), key -> new ArrayList<>()).add(branch);
+        }
+        aggregates.clear();
+        branches.forEach((baseSwiftCode, list) -> aggregates.put(baseSwiftCode, new Aggregate(list)));
+        LOGGER.info("Built branch aggregates for {} base SWIFT codes in {} ms",
+                aggregates.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public synchronized void onSwiftCodeChanged(SwiftCodeChangedEvent event) {
+        refresh(List.of(event));
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public synchronized void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        refresh(event.getChanges());
+    }
+
+    private void refresh(List<SwiftCodeChangedEvent> changes) {
+        if (!enabled) return;
+        Set<String> baseSwiftCodes = new LinkedHashSet<>();
+        changes.forEach(change -> baseSwiftCodes.add(change.getBaseSwiftCode()));
+        for (List<String> chunk : Chunks.of(baseSwiftCodes, Chunks.QUERY_CHUNK_SIZE)) {
+            Map<String, List<SwiftCodeDTO>> branches = new HashMap<>();
+            for (SwiftCodeDTO branch : swiftRepository.findBranchDTOsByBaseSwiftCodeIn(chunk)) {
+                branches.computeIfAbsent(baseSwiftCode(branch.getSwiftCode()), key -> new ArrayList<>()).add(branch);
+            }
+            for (String baseSwiftCode : chunk) {
+                List<SwiftCodeDTO> list = branches.get(baseSwiftCode);
+                if (list == null) {
+                    aggregates.remove(baseSwiftCode);
+                } else {
+                    aggregates.put(baseSwiftCode, new Aggregate(list));
+                }
+            }
+        }
+    }
+
+    private static String baseSwiftCode(String swiftCode) {
+        return swiftCode.substring(0, BASE_SWIFT_CODE_LENGTH);
+    }
+
+    public record Aggregate(List<SwiftCodeDTO> branches) {
+        static final Aggregate EMPTY = new Aggregate(List.of());
+
+        public Aggregate {
+            branches = List.copyOf(branches);
+        }
+
+        public int branchCount() {
+            return branches.size();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package remitly.task.swiftcode.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import remitly.task.swiftcode.dto.SwiftCodeBulkResponseDTO;
+import remitly.task.swiftcode.dto.SwiftCodeBulkResultDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.model.SwiftCodeChange;
+import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.SwiftBatchRepository;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.utils.Chunks;
+import remitly.task.swiftcode.utils.DataValidator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static remitly.task.swiftcode.utils.Chunks.QUERY_CHUNK_SIZE;
+
+/**
+ * Applies many writes per call. All entries are validated before anything is written. Countries are
+ * then resolved with one query, existing codes detected with one query per chunk of
+ * {@link Chunks#QUERY_CHUNK_SIZE} codes and the accepted entries written with a single JDBC batch, all
+ * in one {@link SwiftCodeChangeLog#record} transaction, so no other API write can slip in between the
+ * check and the write. Rejected entries are reported individually and do not block the rest.
+ * <p>
+ * Should the batch still hit a unique constraint (a row written past the change log), it is rolled
+ * back and checked again once; entries that conflict a second time are reported as failed.
+ */
+@Service
+@RequiredArgsConstructor
+public class SwiftCodeBulkService {
+    public static final int MAX_BULK_SIZE = 10_000;
+    private static final int MAX_WRITE_ATTEMPTS = 2;
+
+    private final SwiftRepository swiftRepository;
+    private final SwiftBatchRepository swiftBatchRepository;
+    private final CountryRepository countryRepo;
+    private final DataValidator dataValidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SwiftCodeChangeLog changeLog;
+
+    public SwiftCodeBulkResponseDTO addSwiftCodes(List<SwiftCodeDTO> dtos) {
+        validateSize(dtos);
+        String[] errors = new String[dtos.size()];
+        Set<String> requested = new HashSet<>();
+        Set<String> iso2Codes = new HashSet<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            SwiftCodeDTO dto = dtos.get(i);
+            try {
+                if (dto == null) throw new IllegalArgumentException("SWIFT code entry must not be null");
+                dataValidator.validateSwiftCode(dto.getSwiftCode());
+                dataValidator.validateCountryISO2(dto.getCountryISO2());
+                if (!requested.add(dto.getSwiftCode())) {
+                    throw new IllegalArgumentException("Duplicate SWIFT code in request: " + dto.getSwiftCode());
+                }
+                iso2Codes.add(dto.getCountryISO2());
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+        List<Swift> accepted = new ArrayList<>();
+        String[] results = errors;
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS && !requested.isEmpty(); attempt++) {
+            results = errors.clone();
+            try {
+                insertNew(dtos, results, requested, iso2Codes, accepted);
+                break;
+            } catch (DataIntegrityViolationException e) {
+                accepted.clear();
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    for (int i = 0; i < dtos.size(); i++) {
+                        if (results[i] == null) results[i] = "SWIFT code conflicts with a concurrent write: " + dtos.get(i).getSwiftCode();
+                    }
+                }
+            }
+        }
+        if (!accepted.isEmpty()) publishChanges(SwiftCodeChangedEvent.Type.ADDED, accepted);
+        return response(dtos.stream().map(dto -> dto != null ? dto.getSwiftCode() : null).toList(), results, accepted.size());
+    }
+
+    /**
+     * Resolves countries, rejects existing codes and inserts the rest in one change log transaction,
+     * marking each rejected entry in {@code errors} and adding the inserted ones to {@code accepted}.
+     */
+    private void insertNew(List<SwiftCodeDTO> dtos, String[] errors, Set<String> requested, Set<String> iso2Codes,
+                           List<Swift> accepted) {
+        changeLog.record(changes -> {
+            Map<String, Country> countries = new HashMap<>();
+            if (!iso2Codes.isEmpty()) countryRepo.findAllByIso2In(iso2Codes).forEach(country -> countries.put(country.getIso2(), country));
+            Set<String> existing = findExisting(requested);
+            for (int i = 0; i < dtos.size(); i++) {
+                if (errors[i] != null) continue;
+                SwiftCodeDTO dto = dtos.get(i);
+                Country country = countries.get(dto.getCountryISO2());
+                if (country == null) {
+                    errors[i] = "No country found for code: " + dto.getCountryISO2();
+                } else if (existing.contains(dto.getSwiftCode())) {
+                    errors[i] = "SWIFT code already exists: " + dto.getSwiftCode();
+                } else {
+                    accepted.add(new Swift(dto.getSwiftCode(), dto.getAddress(), dto.getBankName(), dto.isHeadquarter(), country));
+                }
+            }
+            if (accepted.isEmpty()) return;
+            swiftBatchRepository.insertAll(accepted);
+            accepted.forEach(swift -> changes.add(SwiftCodeChange.added(swift)));
+        });
+    }
+
+    public SwiftCodeBulkResponseDTO deleteSwiftCodes(List<String> swiftCodes) {
+        validateSize(swiftCodes);
+        String[] errors = new String[swiftCodes.size()];
+        Set<String> requested = new HashSet<>();
+        for (int i = 0; i < swiftCodes.size(); i++) {
+            try {
+                dataValidator.validateSwiftCode(swiftCodes.get(i));
+                if (!requested.add(swiftCodes.get(i))) {
+                    throw new IllegalArgumentException("Duplicate SWIFT code in request: " + swiftCodes.get(i));
+                }
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+        List<Swift> accepted = new ArrayList<>();
+        if (!requested.isEmpty()) {
+            changeLog.record(changes -> {
+                Map<String, Swift> existing = new HashMap<>();
+                for (List<String> chunk : Chunks.of(requested, QUERY_CHUNK_SIZE)) {
+                    swiftRepository.findAllBySwiftCodeIn(chunk).forEach(swift -> existing.put(swift.getSwiftCode(), swift));
+                }
+                for (int i = 0; i < swiftCodes.size(); i++) {
+                    if (errors[i] != null) continue;
+                    Swift swift = existing.get(swiftCodes.get(i));
+                    if (swift == null) {
+                        errors[i] = "No records for provided swiftCode: " + swiftCodes.get(i);
+                    } else {
+                        accepted.add(swift);
+                    }
+                }
+                if (accepted.isEmpty()) return;
+                swiftBatchRepository.deleteAll(accepted.stream().map(Swift::getSwiftCode).toList());
+                accepted.forEach(swift -> changes.add(SwiftCodeChange.deleted(swift.getSwiftCode(), swift.getCountry().getIso2())));
+            });
+        }
+        if (!accepted.isEmpty()) publishChanges(SwiftCodeChangedEvent.Type.DELETED, accepted);
+        return response(swiftCodes, errors, accepted.size());
+    }
+
+    private void validateSize(List<?> entries) {
+        if (entries == null || entries.isEmpty()) {
+            throw new IllegalArgumentException("SWIFT codes must not be null or empty");
+        }
+        if (entries.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Too many SWIFT codes. Expected at most " + MAX_BULK_SIZE);
+        }
+    }
+
+    private Set<String> findExisting(Set<String> swiftCodes) {
+        Set<String> existing = new HashSet<>();
+        for (List<String> chunk : Chunks.of(swiftCodes, QUERY_CHUNK_SIZE)) {
+            existing.addAll(swiftRepository.findExistingSwiftCodes(chunk));
+        }
+        return existing;
+    }
+
+    private void publishChanges(SwiftCodeChangedEvent.Type type, List<Swift> swifts) {
+        eventPublisher.publishEvent(new SwiftCodesChangedEvent(swifts.stream()
+                .map(swift -> new SwiftCodeChangedEvent(
+                        type, swift.getSwiftCode(), swift.getBaseSwiftCode(), swift.getCountry().getIso2()))
+                .toList()));
+    }
+
+    private static SwiftCodeBulkResponseDTO response(List<String> swiftCodes, String[] errors, int applied) {
+        List<SwiftCodeBulkResultDTO> results = new ArrayList<>(swiftCodes.size());
+        for (int i = 0; i < swiftCodes.size(); i++) {
+            results.add(new SwiftCodeBulkResultDTO(swiftCodes.get(i), errors[i] == null, errors[i]));
+        }
+        return new SwiftCodeBulkResponseDTO(applied, swiftCodes.size() - applied, results);
+    }
+}
@@ -0,0 +1,68 @@
+package remitly.task.swiftcode.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static remitly.task.swiftcode.config.CacheConfig.COUNTRY_SWIFT_CODES_CACHE;
+import static remitly.task.swiftcode.config.CacheConfig.SWIFT_CODE_DETAILS_CACHE;
+
+/**
+ * Evicts cached lookups affected by a write: every cached code sharing the written code's
+ * {@code baseSwiftCode} (the code itself and its headquarters, whose branch list changed) and the
+ * listing of the code's country. Runs before {@link SwiftCodeVersionTracker} publishes the new version.
+ * <p>
+ * Correctness does not depend on this: entries are keyed by the version they were read under (see
+ * {@link SwiftCodeVersionTracker#detailsCacheKey}), so once the version is bumped no reader asks for
+ * them, including one put back by a lookup that overlapped the write. Evicting them frees their space
+ * before the TTL does.
+ */
+@Component
+@ConditionalOnProperty(name = "swiftcode.cache.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SwiftCodeCacheInvalidator {
+    private final CacheManager cacheManager;
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    public void onSwiftCodeChanged(SwiftCodeChangedEvent event) {
+        evict(List.of(event));
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    public void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        evict(event.getChanges());
+    }
+
+    private void evict(List<SwiftCodeChangedEvent> changes) {
+        Set<String> baseSwiftCodes = new HashSet<>();
+        changes.forEach(change -> baseSwiftCodes.add(change.getBaseSwiftCode()));
+        Cache details = cacheManager.getCache(SWIFT_CODE_DETAILS_CACHE);
+        if (details instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().asMap().keySet()
+                    .removeIf(key -> key.toString().length() >= 8 && baseSwiftCodes.contains(key.toString().substring(0, 8)));
+        } else if (details != null) {
+            details.clear();
+        }
+        Set<String> countryPrefixes = new HashSet<>();
+        changes.forEach(change -> countryPrefixes.add(change.getCountryISO2() + SwiftCodeVersionTracker.CACHE_KEY_SEPARATOR));
+        Cache countries = cacheManager.getCache(COUNTRY_SWIFT_CODES_CACHE);
+        if (countries instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().asMap().keySet()
+                    .removeIf(key -> countryPrefixes.stream().anyMatch(key.toString()::startsWith));
+        } else if (countries != null) {
+            countries.clear();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package remitly.task.swiftcode.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import remitly.task.swiftcode.dto.SwiftCodeChangeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeChangeFeedDTO;
+import remitly.task.swiftcode.model.SwiftCodeChange;
+import remitly.task.swiftcode.repository.SwiftBatchRepository;
+import remitly.task.swiftcode.repository.SwiftCodeChangeRepository;
+import remitly.task.swiftcode.utils.Chunks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of every add, update and delete applied to the directory, numbered by a
+ * database sequence. Writes run through {@link #record}, which appends their entries in the same
+ * transaction, so the log never misses or invents a change. Writers are serialized, so sequence
+ * numbers become visible in order and a reader that has seen entry {@code n} has seen every entry
+ * before it; followers rely on that to replicate the directory incrementally from a sequence number.
+ * The initial import of {@code data.xlsx} is not logged: every node starts from the same spreadsheet.
+ */
+@Service
+@RequiredArgsConstructor
+public class SwiftCodeChangeLog {
+    public static final int MAX_FEED_SIZE = 1000;
+
+    private final SwiftCodeChangeRepository changeRepository;
+    private final SwiftBatchRepository swiftBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Runs {@code write} in a new transaction and appends the entries it adds to the list it is given.
+     */
+    public void record(Consumer<List<SwiftCodeChange>> write) {
+        writeLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<SwiftCodeChange> changes = new ArrayList<>();
+                write.accept(changes);
+                Chunks.of(changes, Chunks.QUERY_CHUNK_SIZE).forEach(swiftBatchRepository::insertChanges);
+            });
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public SwiftCodeChangeFeedDTO read(long after, int limit) {
+        if (after < 0) {
+            throw new IllegalArgumentException("Invalid sequence. Expected a value of at least 0");
+        }
+        if (limit < 1 || limit > MAX_FEED_SIZE) {
+            throw new IllegalArgumentException("Invalid limit. Expected a value between 1 and " + MAX_FEED_SIZE);
+        }
+        List<SwiftCodeChangeDTO> changes = changeRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit)).stream()
+                .map(SwiftCodeChangeLog::toDTO)
+                .toList();
+        return new SwiftCodeChangeFeedDTO(changes, changeRepository.findLatestSequence());
+    }
+
+    private static SwiftCodeChangeDTO toDTO(SwiftCodeChange change) {
+        return SwiftCodeChangeDTO.builder()
+                .sequence(change.getId())
+                .type(change.getType().name())
+                .swiftCode(change.getSwiftCode())
+                .address(change.getAddress())
+                .bankName(change.getBankName())
+                .countryISO2(change.getCountryISO2())
+                .countryName(change.getCountryName())
+                .isHeadquarter(change.isHeadquarter())
+                .changedAt(change.getChangedAt())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package remitly.task.swiftcode.service;
+
+import lombok.Value;
+
+/**
+ * Published by {@link SwiftCodeService} after a SWIFT code has been written, so that derived
+ * read structures (caches, indexes) can be brought up to date.
+ */
+@Value
+public class SwiftCodeChangedEvent {
+    public enum Type { ADDED, DELETED }
+
+    Type type;
+    String swiftCode;
+    String baseSwiftCode;
+    String countryISO2;
+}
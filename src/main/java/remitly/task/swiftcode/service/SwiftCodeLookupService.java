@@ -0,0 +1,127 @@
+package remitly.task.swiftcode.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import remitly.task.swiftcode.dto.SwiftCodeLookupResultDTO;
+import remitly.task.swiftcode.engine.SwiftDirectoryEngine;
+import remitly.task.swiftcode.engine.SwiftDirectorySnapshot;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.utils.Chunks;
+import remitly.task.swiftcode.utils.DataValidator;
+import remitly.task.swiftcode.utils.SwiftCodeDetailsMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static remitly.task.swiftcode.config.CacheConfig.SWIFT_CODE_DETAILS_CACHE;
+import static remitly.task.swiftcode.utils.Chunks.QUERY_CHUNK_SIZE;
+
+/**
+ * Resolves many SWIFT codes per call. Every code is validated on its own and a failure only affects
+ * that code's result. Valid codes are answered from the details cache when caching is enabled, then
+ * from the in-memory snapshot or with chunked {@code IN} queries for the codes, instead of a lookup
+ * per code. Branches of the headquarters among them come from {@link HeadquarterBranchAggregates}.
+ */
+@Service
+@RequiredArgsConstructor
+public class SwiftCodeLookupService {
+    public static final int MAX_LOOKUP_SIZE = 10_000;
+
+    private final SwiftRepository swiftRepository;
+    private final DataValidator dataValidator;
+    private final SwiftCodeDetailsMapper mapper;
+    private final SwiftDirectoryEngine directoryEngine;
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final HeadquarterBranchAggregates branchAggregates;
+    private final SwiftCodeVersionTracker versionTracker;
+
+    @Transactional(readOnly = true)
+    public List<SwiftCodeLookupResultDTO> lookup(List<String> swiftCodes) {
+        if (swiftCodes == null || swiftCodes.isEmpty()) {
+            throw new IllegalArgumentException("SWIFT codes must not be null or empty");
+        }
+        if (swiftCodes.size() > MAX_LOOKUP_SIZE) {
+            throw new IllegalArgumentException("Too many SWIFT codes. Expected at most " + MAX_LOOKUP_SIZE);
+        }
+        Map<String, SwiftCodeLookupResultDTO> results = new HashMap<>();
+        Map<String, String> cacheKeys = new HashMap<>();
+        Set<String> pending = new LinkedHashSet<>();
+        Cache cache = detailsCache();
+        for (String swiftCode : swiftCodes) {
+            if (results.containsKey(swiftCode) || pending.contains(swiftCode)) continue;
+            try {
+                dataValidator.validateSwiftCode(swiftCode);
+            } catch (IllegalArgumentException e) {
+                results.put(swiftCode, failure(swiftCode, e.getMessage()));
+                continue;
+            }
+            String cacheKey = versionTracker.detailsCacheKey(swiftCode);
+            Cache.ValueWrapper cached = cache != null ? cache.get(cacheKey) : null;
+            if (cached != null) {
+                results.put(swiftCode, success(swiftCode, cached.get()));
+            } else {
+                pending.add(swiftCode);
+                cacheKeys.put(swiftCode, cacheKey);
+            }
+        }
+        Map<String, Object> resolved = resolve(pending);
+        for (String swiftCode : pending) {
+            Object details = resolved.get(swiftCode);
+            if (details == null) {
+                results.put(swiftCode, failure(swiftCode, "No records for provided swiftCode: " + swiftCode));
+                continue;
+            }
+            if (cache != null) cache.put(cacheKeys.get(swiftCode), details);
+            results.put(swiftCode, success(swiftCode, details));
+        }
+        List<SwiftCodeLookupResultDTO> ordered = new ArrayList<>(swiftCodes.size());
+        for (String swiftCode : swiftCodes) {
+            ordered.add(results.get(swiftCode));
+        }
+        return ordered;
+    }
+
+    private Map<String, Object> resolve(Set<String> swiftCodes) {
+        Map<String, Object> resolved = new HashMap<>();
+        if (swiftCodes.isEmpty()) return resolved;
+        SwiftDirectorySnapshot snapshot = directoryEngine.current();
+        if (snapshot != null) {
+            for (String swiftCode : swiftCodes) {
+                snapshot.findDetails(swiftCode).ifPresent(details -> resolved.put(swiftCode, details));
+            }
+            return resolved;
+        }
+        List<Swift> swifts = new ArrayList<>(swiftCodes.size());
+        for (List<String> chunk : Chunks.of(swiftCodes, QUERY_CHUNK_SIZE)) {
+            swifts.addAll(swiftRepository.findAllBySwiftCodeIn(chunk));
+        }
+        for (Swift swift : swifts) {
+            resolved.put(swift.getSwiftCode(), swift.isHeadquarter()
+                    ? mapper.mapToHeadquarterSwiftCodeDTO(swift, branchAggregates.find(swift.getBaseSwiftCode()).branches())
+                    : mapper.mapToBranchSwiftCodeDTO(swift));
+        }
+        return resolved;
+    }
+
+    private Cache detailsCache() {
+        CacheManager manager = cacheManager.getIfAvailable();
+        return manager != null ? manager.getCache(SWIFT_CODE_DETAILS_CACHE) : null;
+    }
+
+    private static SwiftCodeLookupResultDTO success(String swiftCode, Object details) {
+        return SwiftCodeLookupResultDTO.builder().swiftCode(swiftCode).found(true).details(details).build();
+    }
+
+    private static SwiftCodeLookupResultDTO failure(String swiftCode, String message) {
+        return SwiftCodeLookupResultDTO.builder().swiftCode(swiftCode).found(false).message(message).build();
+    }
+}
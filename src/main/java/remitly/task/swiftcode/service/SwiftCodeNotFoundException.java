@@ -0,0 +1,12 @@
+package remitly.task.swiftcode.service;
+
+/**
+ * A well-formed SWIFT code or country code that has no record. Still an
+ * {@link IllegalArgumentException}, so callers answer it with 400 like any other invalid input; the
+ * subtype only lets metrics tell lookups of missing data apart from malformed requests.
+ */
+public class SwiftCodeNotFoundException extends IllegalArgumentException {
+    public SwiftCodeNotFoundException(String message) {
+        super(message);
+    }
+}
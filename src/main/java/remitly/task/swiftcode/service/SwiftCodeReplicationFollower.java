@@ -0,0 +1,196 @@
+package remitly.task.swiftcode.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import remitly.task.swiftcode.controller.RateLimitFilter;
+import remitly.task.swiftcode.dto.SwiftCodeChangeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeChangeFeedDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.ReplicationCursor;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.model.SwiftCodeChange;
+import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.ReplicationCursorRepository;
+import remitly.task.swiftcode.repository.SwiftBatchRepository;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.utils.Chunks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps this node's directory in line with a leader's by pulling the leader's
+ * {@link SwiftCodeChangeLog} from the last applied sequence number. Enabled by setting
+ * {@code swiftcode.replication.leader-url}; polling starts once the application is ready, after the
+ * initial import.
+ * <p>
+ * Each page of changes is applied in one transaction together with the new cursor, so a crash
+ * neither loses nor repeats a page. Applying is idempotent: every code touched by the page is
+ * deleted and the codes whose last change is {@code ADDED} are written again with the leader's data.
+ * The applied changes are also appended to this node's own log, so a follower can in turn lead
+ * others. Reads are served locally throughout; writes made directly on a follower are not sent back.
+ */
+@Service
+@ConditionalOnProperty(name = "swiftcode.replication.leader-url")
+public class SwiftCodeReplicationFollower {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SwiftCodeReplicationFollower.class);
+
+    private final SwiftRepository swiftRepository;
+    private final CountryRepository countryRepo;
+    private final SwiftBatchRepository swiftBatchRepository;
+    private final ReplicationCursorRepository cursorRepository;
+    private final SwiftCodeChangeLog changeLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RestClient leader;
+    private final String leaderUrl;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("swift-replication").daemon().factory());
+
+    @Autowired
+    public SwiftCodeReplicationFollower(SwiftRepository swiftRepository, CountryRepository countryRepo,
+                                        SwiftBatchRepository swiftBatchRepository, ReplicationCursorRepository cursorRepository,
+                                        SwiftCodeChangeLog changeLog, ApplicationEventPublisher eventPublisher,
+                                        RestClient.Builder restClientBuilder,
+                                        @Value("${swiftcode.replication.leader-url}") String leaderUrl,
+                                        @Value("${swiftcode.replication.api-key:}") String apiKey,
+                                        @Value("${swiftcode.replication.batch-size:1000}") int batchSize,
+                                        @Value("${swiftcode.replication.poll-interval:5s}") Duration pollInterval) {
+        this.swiftRepository = swiftRepository;
+        this.countryRepo = countryRepo;
+        this.swiftBatchRepository = swiftBatchRepository;
+        this.cursorRepository = cursorRepository;
+        this.changeLog = changeLog;
+        this.eventPublisher = eventPublisher;
+        this.leaderUrl = leaderUrl;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.leader = restClientBuilder.baseUrl(leaderUrl)
+                .defaultHeaders(headers -> {
+                    if (!apiKey.isBlank()) headers.set(RateLimitFilter.API_KEY_HEADER, apiKey);
+                })
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        LOGGER.info("Replicating SWIFT codes from {} every {}", leaderUrl, pollInterval);
+        scheduler.scheduleWithFixedDelay(this::pollSafely, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Pulls and applies pages until the leader has nothing newer.
+     *
+     * @return the number of changes applied
+     */
+    public int poll() {
+        int applied = 0;
+        while (true) {
+            long cursor = cursor();
+            SwiftCodeChangeFeedDTO feed = leader.get()
+                    .uri(uri -> uri.path("/v1/replication/changes")
+                            .queryParam("after", cursor)
+                            .queryParam("limit", batchSize)
+                            .build())
+                    .retrieve()
+                    .body(SwiftCodeChangeFeedDTO.class);
+            if (feed == null || feed.getChanges().isEmpty()) return applied;
+            applied += apply(cursor, feed.getChanges());
+            if (feed.getChanges().size() < batchSize) return applied;
+        }
+    }
+
+    public long cursor() {
+        return cursorRepository.findById(leaderUrl).map(ReplicationCursor::getSequence).orElse(0L);
+    }
+
+    /**
+     * Reads the stored cursor and the codes the page replaces under the change-log lock, so a local
+     * write or another apply in between cannot leave it working from stale state.
+     *
+     * @return the number of changes applied; changes at or before {@code cursor} or the stored cursor
+     * are skipped
+     */
+    int apply(long cursor, List<SwiftCodeChangeDTO> page) {
+        Map<String, SwiftCodeChangeDTO> latest = new LinkedHashMap<>();
+        List<SwiftCodeChangedEvent> events = new ArrayList<>();
+        changeLog.record(log -> {
+            long sequence = Math.max(cursor, cursor());
+            for (SwiftCodeChangeDTO change : page) {
+                if (change.getSequence() <= sequence) continue;
+                latest.remove(change.getSwiftCode());
+                latest.put(change.getSwiftCode(), change);
+                sequence = change.getSequence();
+            }
+            if (latest.isEmpty()) return;
+            List<SwiftCodeDTO> existing = new ArrayList<>();
+            for (List<String> chunk : Chunks.of(latest.keySet(), Chunks.QUERY_CHUNK_SIZE)) {
+                existing.addAll(swiftRepository.findSwiftCodeDTOsBySwiftCodeIn(chunk));
+            }
+            Map<String, Country> countries = new HashMap<>();
+            countryRepo.findAll().forEach(country -> countries.put(country.getIso2(), country));
+            List<Swift> added = new ArrayList<>();
+            for (SwiftCodeChangeDTO change : latest.values()) {
+                if (SwiftCodeChange.Type.DELETED.name().equals(change.getType())) {
+                    log.add(SwiftCodeChange.deleted(change.getSwiftCode(), change.getCountryISO2()));
+                    continue;
+                }
+                Country country = countries.computeIfAbsent(change.getCountryISO2(),
+                        iso2 -> countryRepo.save(new Country(change.getCountryName(), iso2)));
+                Swift swift = new Swift(change.getSwiftCode(), change.getAddress(), change.getBankName(),
+                        change.isHeadquarter(), country);
+                added.add(swift);
+                log.add(SwiftCodeChange.added(swift));
+            }
+            Chunks.of(existing, Chunks.QUERY_CHUNK_SIZE).forEach(chunk ->
+                    swiftBatchRepository.deleteAll(chunk.stream().map(SwiftCodeDTO::getSwiftCode).toList()));
+            Chunks.of(added, Chunks.QUERY_CHUNK_SIZE).forEach(swiftBatchRepository::insertAll);
+            cursorRepository.save(new ReplicationCursor(leaderUrl, sequence));
+
+            existing.forEach(swiftCode -> events.add(event(SwiftCodeChangedEvent.Type.DELETED, swiftCode.getSwiftCode(),
+                    swiftCode.getCountryISO2())));
+            added.forEach(swift -> events.add(event(SwiftCodeChangedEvent.Type.ADDED, swift.getSwiftCode(),
+                    swift.getCountry().getIso2())));
+        });
+        if (latest.isEmpty()) return 0;
+        if (!events.isEmpty()) eventPublisher.publishEvent(new SwiftCodesChangedEvent(events));
+        LOGGER.info("Applied {} replicated SWIFT code changes up to sequence {}", latest.size(),
+                latest.values().stream().mapToLong(SwiftCodeChangeDTO::getSequence).max().orElseThrow());
+        return latest.size();
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Replication from {} failed: {}", leaderUrl, e.getMessage());
+        }
+    }
+
+    private static SwiftCodeChangedEvent event(SwiftCodeChangedEvent.Type type, String swiftCode, String countryISO2) {
+        return new SwiftCodeChangedEvent(type, swiftCode, swiftCode.substring(0, 8), countryISO2);
+    }
+}
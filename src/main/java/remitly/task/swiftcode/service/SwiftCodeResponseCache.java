@@ -0,0 +1,111 @@
+package remitly.task.swiftcode.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import remitly.task.swiftcode.config.MetricsConfig;
+import remitly.task.swiftcode.utils.Gzip;
+
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+/**
+ * Ready-to-send JSON bodies of the single-code and country responses, so a hit skips building the
+ * DTOs and serializing them again. Bodies of at least {@code gzip-min-size} bytes are also kept
+ * gzip-compressed for clients that accept it.
+ * <p>
+ * Every entry remembers the {@link SwiftCodeVersionTracker} version it was built under and is only
+ * served while that version is current: a write to a code's {@code baseSwiftCode} or country makes
+ * exactly the affected entries stale, and they are rebuilt on their next request. Failed lookups are
+ * not cached. Bodies are loaded past the DTO caches, so an entry is not held twice and is never built
+ * from a DTO cached before the write that bumped its version. The cache is bounded by the total size
+ * of the stored bodies. Its statistics are published as the {@code swiftcode.responses.details} and
+ * {@code swiftcode.responses.countries} caches.
+ */
+@Component
+@ConditionalOnProperty(name = "swiftcode.response-cache.enabled", havingValue = "true")
+public class SwiftCodeResponseCache implements MeterBinder {
+    private final SwiftCodeService swiftCodeService;
+    private final SwiftCodeVersionTracker versionTracker;
+    private final ObjectMapper objectMapper;
+    private final int gzipMinSize;
+    private final Cache<String, EncodedResponse> details;
+    private final Cache<String, EncodedResponse> countries;
+
+    public SwiftCodeResponseCache(SwiftCodeService swiftCodeService, SwiftCodeVersionTracker versionTracker,
+                                  ObjectMapper objectMapper,
+                                  @Value("${swiftcode.response-cache.maximum-bytes:67108864}") long maximumBytes,
+                                  @Value("${swiftcode.response-cache.gzip-min-size:1024}") int gzipMinSize) {
+        this.swiftCodeService = swiftCodeService;
+        this.versionTracker = versionTracker;
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize;
+        this.details = newCache(maximumBytes / 2);
+        this.countries = newCache(maximumBytes / 2);
+    }
+
+    public EncodedResponse getSwiftCodeDetails(String swiftCode) {
+        return get(details, swiftCode, versionTracker.ofSwiftCode(swiftCode),
+                () -> swiftCodeService.readSwiftCodeDetails(swiftCode));
+    }
+
+    public EncodedResponse getSwiftCodesByCountry(String countryISO2) {
+        return get(countries, countryISO2, versionTracker.ofCountry(countryISO2),
+                () -> swiftCodeService.readSwiftCodesByCountry(countryISO2));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "swiftcode.responses.details", details);
+        bind(registry, "swiftcode.responses.countries", countries);
+    }
+
+    private static void bind(MeterRegistry registry, String name, Cache<String, EncodedResponse> cache) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+        MetricsConfig.bindHitRatio(registry, name, cache);
+    }
+
+    private EncodedResponse get(Cache<String, EncodedResponse> cache, String key, SwiftCodeVersionTracker.Version version,
+                                Supplier<Object> loader) {
+        EncodedResponse cached = cache.getIfPresent(key);
+        if (cached != null && cached.version().equals(version)) return cached;
+        EncodedResponse response = encode(loader.get(), version);
+        cache.put(key, response);
+        return response;
+    }
+
+    private EncodedResponse encode(Object body, SwiftCodeVersionTracker.Version version) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new EncodedResponse(json, json.length >= gzipMinSize ? Gzip.compress(json) : null, version);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Cache<String, EncodedResponse> newCache(long maximumBytes) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String key, EncodedResponse response) -> response.size())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param json    the serialized body
+     * @param gzip    the body gzip-compressed, or {@code null} when it is below the compression threshold
+     * @param version the data version the body was built from
+     */
+    public record EncodedResponse(byte[] json, byte[] gzip, SwiftCodeVersionTracker.Version version) {
+        int size() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
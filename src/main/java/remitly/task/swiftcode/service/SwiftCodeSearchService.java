@@ -0,0 +1,81 @@
+package remitly.task.swiftcode.service;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.engine.SwiftSearchIndex;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.utils.Chunks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Type-ahead search over partial SWIFT codes, bank names and addresses, answered from an in-memory
+ * {@link SwiftSearchIndex}. The index is loaded once at startup and then kept up to date from the
+ * change events of single and bulk writes, so the database is only read for the written codes.
+ */
+@Service
+@RequiredArgsConstructor
+public class SwiftCodeSearchService implements SmartInitializingSingleton {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    public static final int MAX_QUERY_LENGTH = 100;
+    private static final Logger LOGGER = LoggerFactory.getLogger(SwiftCodeSearchService.class);
+
+    private final SwiftRepository swiftRepository;
+    private final SwiftSearchIndex index = new SwiftSearchIndex();
+
+    public List<SwiftCodeDTO> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be null or empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query too long. Expected at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Invalid limit. Expected a value between 1 and " + MAX_LIMIT);
+        }
+        return index.search(query, limit);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        index.clear();
+        swiftRepository.findAllSwiftCodeDTOs().forEach(index::add);
+        LOGGER.info("Built SWIFT code search index with {} codes in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    public synchronized void onSwiftCodeChanged(SwiftCodeChangedEvent event) {
+        apply(List.of(event));
+    }
+
+    @EventListener
+    public synchronized void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        apply(event.getChanges());
+    }
+
+    private void apply(List<SwiftCodeChangedEvent> changes) {
+        List<String> added = new ArrayList<>();
+        for (SwiftCodeChangedEvent change : changes) {
+            if (change.getType() == SwiftCodeChangedEvent.Type.ADDED) {
+                added.add(change.getSwiftCode());
+            } else {
+                index.remove(change.getSwiftCode());
+            }
+        }
+        for (List<String> chunk : Chunks.of(added, Chunks.QUERY_CHUNK_SIZE)) {
+            swiftRepository.findSwiftCodeDTOsBySwiftCodeIn(chunk).forEach(index::add);
+        }
+    }
+}
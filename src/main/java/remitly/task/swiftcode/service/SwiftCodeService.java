@@ -1,59 +1,176 @@
 package remitly.task.swiftcode.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import remitly.task.swiftcode.dto.CountrySwiftCodeDTO;
+import remitly.task.swiftcode.dto.CountrySwiftCodePageDTO;
 import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.engine.SwiftDirectoryEngine;
+import remitly.task.swiftcode.engine.SwiftDirectorySnapshot;
 import remitly.task.swiftcode.model.Country;
 import remitly.task.swiftcode.model.Swift;
-import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.model.SwiftCodeChange;
 import remitly.task.swiftcode.repository.SwiftRepository;
 import remitly.task.swiftcode.utils.DataValidator;
 import remitly.task.swiftcode.utils.SwiftCodeDetailsMapper;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static remitly.task.swiftcode.config.CacheConfig.COUNTRY_SWIFT_CODES_CACHE;
+import static remitly.task.swiftcode.config.CacheConfig.SWIFT_CODE_DETAILS_CACHE;
 
 @Service
 @RequiredArgsConstructor
 public class SwiftCodeService {
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final String BRANCHES_LIST = "list";
+    public static final String BRANCHES_COUNT = "count";
+
     private final SwiftRepository swiftRepository;
-    private final CountryRepository countryRepo;
+    private final CountryCache countryCache;
     private final DataValidator dataValidator;
     private final SwiftCodeDetailsMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SwiftDirectoryEngine directoryEngine;
+    private final SwiftCodeChangeLog changeLog;
+    private final HeadquarterBranchAggregates branchAggregates;
 
+    @Cacheable(cacheNames = SWIFT_CODE_DETAILS_CACHE, key = "@swiftCodeVersionTracker.detailsCacheKey(#swiftCode)", sync = true)
     public Object getSwiftCodeDetails(String swiftCode) {
-        dataValidator.validateSwiftCode(swiftCode);
-        Swift swift = swiftRepository.findBySwiftCode(swiftCode)
-                .orElseThrow(() -> new IllegalArgumentException("No records for provided swiftCode: " + swiftCode));
+        return readSwiftCodeDetails(swiftCode);
+    }
+
+    /**
+     * Same as {@link #getSwiftCodeDetails(String)}, but always read from the snapshot or the database,
+     * for callers that keep their own copy of the result.
+     */
+    public Object readSwiftCodeDetails(String swiftCode) {
+        SwiftDirectorySnapshot snapshot = directoryEngine.current();
+        if (snapshot != null) return found(snapshot.findDetails(validated(swiftCode)), swiftCode);
+        Swift swift = findSwift(swiftCode);
         if (!swift.isHeadquarter()) return mapper.mapToBranchSwiftCodeDTO(swift);
-        List<Swift> branches = swiftRepository.findAllByBaseSwiftCodeAndIsHeadquarterFalse(swift.getBaseSwiftCode());
-        return mapper.mapToHeadquarterSwiftCodeDTO(swift, branches);
+        return mapper.mapToHeadquarterSwiftCodeDTO(swift, branchAggregates.find(swift.getBaseSwiftCode()).branches());
     }
 
+    /**
+     * Same as {@link #getSwiftCodeDetails(String)}, except that a headquarters carries only the number
+     * of its branches instead of the branch list.
+     */
+    public Object getSwiftCodeSummary(String swiftCode) {
+        SwiftDirectorySnapshot snapshot = directoryEngine.current();
+        if (snapshot != null) return found(snapshot.findSummary(validated(swiftCode)), swiftCode);
+        Swift swift = findSwift(swiftCode);
+        if (!swift.isHeadquarter()) return mapper.mapToBranchSwiftCodeDTO(swift);
+        return mapper.mapToHeadquarterSwiftCodeSummaryDTO(swift, branchAggregates.find(swift.getBaseSwiftCode()).branchCount());
+    }
+
+    @Cacheable(cacheNames = COUNTRY_SWIFT_CODES_CACHE, key = "@swiftCodeVersionTracker.countryCacheKey(#countryISO2)", sync = true)
     public CountrySwiftCodeDTO getSwiftCodesByCountry(String countryISO2) {
-        dataValidator.validateCountryISO2(countryISO2);
-        Country country = countryRepo.findByIso2(countryISO2.toUpperCase())
-                .orElseThrow(() -> new IllegalArgumentException("No country found for code: " + countryISO2));
-        List<Swift> swiftCodes = swiftRepository.findAllByCountryIso2IgnoreCase(countryISO2);
+        return readSwiftCodesByCountry(countryISO2);
+    }
+
+    /**
+     * Same as {@link #getSwiftCodesByCountry(String)}, but always read from the snapshot or the database.
+     */
+    public CountrySwiftCodeDTO readSwiftCodesByCountry(String countryISO2) {
+        SwiftDirectorySnapshot snapshot = directoryEngine.current();
+        Country country = findCountry(countryISO2);
+        List<SwiftCodeDTO> swiftCodes = snapshot != null
+                ? snapshot.findAllByCountry(countryISO2)
+                : swiftRepository.findSwiftCodeDTOsByCountryIso2(countryISO2.toUpperCase());
         return mapper.mapToCountrySwiftCodeDTO(country, swiftCodes);
     }
 
+    public CountrySwiftCodePageDTO getSwiftCodesByCountryPage(String countryISO2, int limit, String after) {
+        SwiftDirectorySnapshot snapshot = directoryEngine.current();
+        Country country = findCountry(countryISO2);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Invalid limit. Expected a value between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (after != null) dataValidator.validateSwiftCode(after);
+        String cursor = after != null ? after : "";
+        List<SwiftCodeDTO> swiftCodes = snapshot != null
+                ? snapshot.findAllByCountry(countryISO2, after, limit)
+                : swiftRepository.findSwiftCodeDTOsByCountryIso2After(countryISO2.toUpperCase(), cursor, Limit.of(limit));
+        String nextCursor = swiftCodes.size() == limit ? swiftCodes.get(limit - 1).getSwiftCode() : null;
+        return mapper.mapToCountrySwiftCodePageDTO(country, swiftCodes, nextCursor);
+    }
+
+    public Country getCountry(String countryISO2) {
+        return findCountry(countryISO2);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamSwiftCodesByCountry(String countryISO2, Consumer<SwiftCodeDTO> consumer) {
+        SwiftDirectorySnapshot snapshot = directoryEngine.current();
+        if (snapshot != null) {
+            snapshot.findAllByCountry(countryISO2).forEach(consumer);
+            return;
+        }
+        try (Stream<SwiftCodeDTO> swiftCodes = swiftRepository.streamSwiftCodeDTOsByCountryIso2(countryISO2.toUpperCase())) {
+            swiftCodes.forEach(consumer);
+        }
+    }
+
     public void addSwiftCode(SwiftCodeDTO dto) {
         dataValidator.validateSwiftCode(dto.getSwiftCode());
         dataValidator.validateCountryISO2(dto.getCountryISO2());
-        if (swiftRepository.findBySwiftCode(dto.getSwiftCode()).isPresent()) {
-            throw new IllegalArgumentException("SWIFT code already exists: " + dto.getSwiftCode());
-        }
-        Country country = countryRepo.findByIso2(dto.getCountryISO2().toUpperCase())
-                .orElseThrow(() -> new IllegalArgumentException("No country found for code: " + dto.getCountryISO2()));
-        Swift swift = new Swift(dto.getSwiftCode(), dto.getAddress(), dto.getBankName(), dto.isHeadquarter(), country);
-        swiftRepository.save(swift);
+        List<Swift> added = new ArrayList<>(1);
+        changeLog.record(changes -> {
+            if (swiftRepository.findBySwiftCode(dto.getSwiftCode()).isPresent()) {
+                throw new IllegalArgumentException("SWIFT code already exists: " + dto.getSwiftCode());
+            }
+            Country country = countryCache.find(dto.getCountryISO2())
+                    .orElseThrow(() -> new SwiftCodeNotFoundException("No country found for code: " + dto.getCountryISO2()));
+            Swift swift = new Swift(dto.getSwiftCode(), dto.getAddress(), dto.getBankName(), dto.isHeadquarter(), country);
+            swiftRepository.save(swift);
+            changes.add(SwiftCodeChange.added(swift));
+            added.add(swift);
+        });
+        publishChange(SwiftCodeChangedEvent.Type.ADDED, added.get(0));
     }
 
     public void deleteSwiftCode(String swiftCode) throws IllegalArgumentException {
         dataValidator.validateSwiftCode(swiftCode);
-        Swift swift = swiftRepository.findBySwiftCode(swiftCode)
-                .orElseThrow(() -> new IllegalArgumentException("No records for provided swiftCode: " + swiftCode));
-        swiftRepository.delete(swift);
+        List<Swift> deleted = new ArrayList<>(1);
+        changeLog.record(changes -> {
+            Swift swift = found(swiftRepository.findBySwiftCode(swiftCode), swiftCode);
+            swiftRepository.delete(swift);
+            changes.add(SwiftCodeChange.deleted(swift.getSwiftCode(), swift.getCountry().getIso2()));
+            deleted.add(swift);
+        });
+        publishChange(SwiftCodeChangedEvent.Type.DELETED, deleted.get(0));
+    }
+
+    private Swift findSwift(String swiftCode) {
+        return found(swiftRepository.findBySwiftCode(validated(swiftCode)), swiftCode);
+    }
+
+    private String validated(String swiftCode) {
+        dataValidator.validateSwiftCode(swiftCode);
+        return swiftCode;
+    }
+
+    private static <T> T found(Optional<T> result, String swiftCode) {
+        return result.orElseThrow(() -> new SwiftCodeNotFoundException("No records for provided swiftCode: " + swiftCode));
+    }
+
+    private Country findCountry(String countryISO2) {
+        dataValidator.validateCountryISO2(countryISO2);
+        return countryCache.find(countryISO2)
+                .orElseThrow(() -> new SwiftCodeNotFoundException("No country found for code: " + countryISO2));
+    }
+
+    private void publishChange(SwiftCodeChangedEvent.Type type, Swift swift) {
+        eventPublisher.publishEvent(new SwiftCodeChangedEvent(
+                type, swift.getSwiftCode(), swift.getBaseSwiftCode(), swift.getCountry().getIso2()));
     }
 }
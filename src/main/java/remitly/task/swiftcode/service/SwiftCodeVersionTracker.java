@@ -0,0 +1,99 @@
+package remitly.task.swiftcode.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of every cacheable read response, used as its HTTP validator. The details of a code depend
+ * only on the codes sharing its {@code baseSwiftCode}, and a country listing only on the codes of that
+ * country, so versions are kept per base code and per country ISO2 and bumped on every write that
+ * touches them. Keys never written since startup share the startup version.
+ * <p>
+ * The ETag carries the startup time, so validators issued before a restart (or before the initial
+ * import) never match. Versions are bumped after the directory snapshot and caches have been updated,
+ * so a reader that sees a new version always reads the new data.
+ */
+@Component
+public class SwiftCodeVersionTracker {
+    public static final char CACHE_KEY_SEPARATOR = '@';
+    private static final int BASE_SWIFT_CODE_LENGTH = 8;
+
+    private final long startedAt = System.currentTimeMillis();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Version initial = version(0, startedAt);
+    private final Map<String, Version> baseSwiftCodeVersions = new ConcurrentHashMap<>();
+    private final Map<String, Version> countryVersions = new ConcurrentHashMap<>();
+
+    public Version ofSwiftCode(String swiftCode) {
+        String baseSwiftCode = swiftCode.length() > BASE_SWIFT_CODE_LENGTH
+                ? swiftCode.substring(0, BASE_SWIFT_CODE_LENGTH) : swiftCode;
+        return baseSwiftCodeVersions.getOrDefault(baseSwiftCode, initial);
+    }
+
+    public Version ofCountry(String countryISO2) {
+        return countryVersions.getOrDefault(countryISO2, initial);
+    }
+
+    /**
+     * Key of the cached details of {@code swiftCode} at its current version. A lookup that started
+     * before a write and finishes after it puts its result under the old key, which no reader asks
+     * for once the version has been bumped, so it cannot serve pre-write data.
+     */
+    public String detailsCacheKey(String swiftCode) {
+        return swiftCode + CACHE_KEY_SEPARATOR + ofSwiftCode(swiftCode).eTag();
+    }
+
+    /**
+     * Key of the cached listing of {@code countryISO2} at its current version; see
+     * {@link #detailsCacheKey(String)}.
+     */
+    public String countryCacheKey(String countryISO2) {
+        return countryISO2 + CACHE_KEY_SEPARATOR + ofCountry(countryISO2).eTag();
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onSwiftCodeChanged(SwiftCodeChangedEvent event) {
+        bump(List.of(event));
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onSwiftCodesChanged(SwiftCodesChangedEvent event) {
+        bump(event.getChanges());
+    }
+
+    private void bump(List<SwiftCodeChangedEvent> changes) {
+        Version version = version(sequence.incrementAndGet(), System.currentTimeMillis());
+        for (SwiftCodeChangedEvent change : changes) {
+            baseSwiftCodeVersions.put(change.getBaseSwiftCode(), version);
+            countryVersions.put(change.getCountryISO2(), version);
+        }
+    }
+
+    private Version version(long sequence, long lastModified) {
+        return new Version("\"" + Long.toHexString(startedAt) + "-" + sequence + "\"", lastModified);
+    }
+
+    /**
+     * @param eTag         strong entity tag of the data version, already quoted
+     * @param lastModified epoch millis of the last write, or of startup when never written
+     */
+    public record Version(String eTag, long lastModified) {
+        /**
+         * Strong entity tag of one representation of this version. Responses that differ in media type,
+         * projection or content coding must not share a strong validator (RFC 9110, section 8.8.3), so
+         * each gets its own {@code variant}, which must consist of ETag characters other than {@code "}.
+         */
+        public String eTag(String variant) {
+            return eTag.substring(0, eTag.length() - 1) + "-" + variant + "\"";
+        }
+    }
+}
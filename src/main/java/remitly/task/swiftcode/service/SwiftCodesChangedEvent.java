@@ -0,0 +1,14 @@
+package remitly.task.swiftcode.service;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published by {@link SwiftCodeBulkService} once per applied batch, so that listeners can update
+ * derived read structures in one pass instead of once per code.
+ */
+@Value
+public class SwiftCodesChangedEvent {
+    List<SwiftCodeChangedEvent> changes;
+}
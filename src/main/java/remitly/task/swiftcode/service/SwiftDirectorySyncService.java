@@ -0,0 +1,189 @@
+package remitly.task.swiftcode.service;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeRow;
+import remitly.task.swiftcode.dto.SwiftDirectorySyncReportDTO;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.model.SwiftCodeChange;
+import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.SwiftBatchRepository;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.utils.Chunks;
+import remitly.task.swiftcode.utils.DataValidator;
+import remitly.task.swiftcode.utils.XlsxSwiftCodeReader;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Brings the stored directory in line with a newer spreadsheet without a full reload. Incoming rows
+ * are diffed by SWIFT code against the stored rows; only new codes are inserted, changed ones
+ * updated and missing ones deleted, each in JDBC batches committed one batch at a time together
+ * with their {@link SwiftCodeChangeLog} entries. Reads keep being served meanwhile, and a failed run
+ * can simply be repeated: the next diff picks up whatever was not applied.
+ * <p>
+ * Every row is validated before anything is written, and a file that would delete every stored code,
+ * or more than {@code swiftcode.sync.max-delete-ratio} of them, is refused unless forced, so an empty
+ * or truncated spreadsheet cannot wipe the directory.
+ * <p>
+ * Each committed batch publishes its own {@link SwiftCodesChangedEvent}, so caches and in-memory
+ * indexes follow whatever was applied even when a later batch fails. An update is published as a
+ * delete and an add of the same code, which also refreshes the listing of the code's previous country.
+ */
+@Service
+@RequiredArgsConstructor
+public class SwiftDirectorySyncService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SwiftDirectorySyncService.class);
+
+    private final SwiftRepository swiftRepository;
+    private final CountryRepository countryRepo;
+    private final SwiftBatchRepository swiftBatchRepository;
+    private final XlsxSwiftCodeReader reader;
+    private final DataValidator dataValidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SwiftCodeChangeLog changeLog;
+
+    @Value("${swiftcode.import.batch-size:1000}")
+    private int batchSize = Chunks.QUERY_CHUNK_SIZE;
+
+    @Value("${swiftcode.sync.max-delete-ratio:0.5}")
+    private double maxDeleteRatio = 0.5;
+
+    public SwiftDirectorySyncReportDTO sync(InputStream spreadsheet, boolean force) {
+        List<SwiftCodeRow> rows = new ArrayList<>();
+        reader.read(spreadsheet, rows::add);
+        return sync(rows, force);
+    }
+
+    /**
+     * @param force apply the file even if it deletes more than {@code swiftcode.sync.max-delete-ratio}
+     *              of the stored codes
+     */
+    public SwiftDirectorySyncReportDTO sync(List<SwiftCodeRow> rows, boolean force) {
+        long start = System.nanoTime();
+        validate(rows);
+        Map<String, SwiftCodeDTO> stored = new HashMap<>();
+        swiftRepository.findAllSwiftCodeDTOs().forEach(swiftCode -> stored.put(swiftCode.getSwiftCode(), swiftCode));
+        int storedCount = stored.size();
+        Map<String, Country> countries = new HashMap<>();
+        countryRepo.findAll().forEach(country -> countries.put(country.getIso2(), country));
+
+        Map<String, Country> missingCountries = new LinkedHashMap<>();
+        Map<String, Swift> incoming = new LinkedHashMap<>();
+        for (SwiftCodeRow row : rows) {
+            Country country = countries.computeIfAbsent(row.getCountryISO2(), iso2 -> {
+                Country missing = new Country(row.getCountryName(), iso2);
+                missingCountries.put(iso2, missing);
+                return missing;
+            });
+            Swift swift = new Swift(row.getSwiftCode(), row.getAddress(), row.getBankName(), row.isHeadquarter(), country);
+            incoming.put(swift.getSwiftCode(), swift);
+        }
+
+        List<Swift> inserts = new ArrayList<>();
+        List<Swift> updates = new ArrayList<>();
+        Map<String, String> previousCountries = new HashMap<>();
+        for (Swift swift : incoming.values()) {
+            SwiftCodeDTO current = stored.remove(swift.getSwiftCode());
+            if (current == null) {
+                inserts.add(swift);
+            } else if (!matches(current, swift)) {
+                updates.add(swift);
+                previousCountries.put(swift.getSwiftCode(), current.getCountryISO2());
+            }
+        }
+        List<SwiftCodeDTO> deletes = new ArrayList<>(stored.values());
+        if (!force && !deletes.isEmpty() && (incoming.isEmpty() || deletes.size() > maxDeleteRatio * storedCount)) {
+            throw new IllegalArgumentException("Synchronization would delete " + deletes.size() + " of " + storedCount
+                    + " SWIFT codes. Pass force=true to apply it");
+        }
+
+        for (List<SwiftCodeDTO> batch : Chunks.of(deletes, batchSize)) {
+            changeLog.record(log -> {
+                swiftBatchRepository.deleteAll(batch.stream().map(SwiftCodeDTO::getSwiftCode).toList());
+                batch.forEach(swiftCode -> log.add(SwiftCodeChange.deleted(swiftCode.getSwiftCode(), swiftCode.getCountryISO2())));
+            });
+            publish(batch.stream()
+                    .map(swiftCode -> change(SwiftCodeChangedEvent.Type.DELETED, swiftCode.getSwiftCode(), swiftCode.getCountryISO2()))
+                    .toList());
+        }
+        for (List<Swift> batch : Chunks.of(updates, batchSize)) {
+            changeLog.record(log -> {
+                saveCountries(missingCountries);
+                swiftBatchRepository.updateAll(batch);
+                batch.forEach(swift -> log.add(SwiftCodeChange.added(swift)));
+            });
+            List<SwiftCodeChangedEvent> changes = new ArrayList<>(batch.size() * 2);
+            for (Swift swift : batch) {
+                changes.add(change(SwiftCodeChangedEvent.Type.DELETED, swift.getSwiftCode(), previousCountries.get(swift.getSwiftCode())));
+                changes.add(change(SwiftCodeChangedEvent.Type.ADDED, swift.getSwiftCode(), swift.getCountry().getIso2()));
+            }
+            publish(changes);
+        }
+        for (List<Swift> batch : Chunks.of(inserts, batchSize)) {
+            changeLog.record(log -> {
+                saveCountries(missingCountries);
+                swiftBatchRepository.insertAll(batch);
+                batch.forEach(swift -> log.add(SwiftCodeChange.added(swift)));
+            });
+            publish(batch.stream()
+                    .map(swift -> change(SwiftCodeChangedEvent.Type.ADDED, swift.getSwiftCode(), swift.getCountry().getIso2()))
+                    .toList());
+        }
+
+        SwiftDirectorySyncReportDTO report = new SwiftDirectorySyncReportDTO(inserts.size(), updates.size(), deletes.size(),
+                incoming.size() - inserts.size() - updates.size(), (System.nanoTime() - start) / 1_000_000);
+        LOGGER.info("Synchronized SWIFT directory: {} inserted, {} updated, {} deleted, {} unchanged in {} ms",
+                report.getInserted(), report.getUpdated(), report.getDeleted(), report.getUnchanged(), report.getDurationMs());
+        return report;
+    }
+
+    private void validate(List<SwiftCodeRow> rows) {
+        for (int i = 0; i < rows.size(); i++) {
+            SwiftCodeRow row = rows.get(i);
+            try {
+                dataValidator.validateSwiftCode(row.getSwiftCode());
+                dataValidator.validateCountryISO2(row.getCountryISO2());
+            } catch (IllegalArgumentException e) {
+                // data rows start below the header row
+                throw new IllegalArgumentException("Invalid row " + (i + 2) + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Creates the countries first referenced by the file in the transaction of the first batch that
+     * writes codes, so a refused or failed run leaves none behind without codes.
+     */
+    private void saveCountries(Map<String, Country> missingCountries) {
+        missingCountries.values().forEach(countryRepo::save);
+        missingCountries.clear();
+    }
+
+    private void publish(List<SwiftCodeChangedEvent> changes) {
+        eventPublisher.publishEvent(new SwiftCodesChangedEvent(changes));
+    }
+
+    private static boolean matches(SwiftCodeDTO current, Swift swift) {
+        return Objects.equals(current.getAddress(), swift.getAddress())
+                && Objects.equals(current.getBankName(), swift.getBankName())
+                && Objects.equals(current.getCountryISO2(), swift.getCountry().getIso2())
+                && current.isHeadquarter() == swift.isHeadquarter();
+    }
+
+    private static SwiftCodeChangedEvent change(SwiftCodeChangedEvent.Type type, String swiftCode, String countryISO2) {
+        return new SwiftCodeChangedEvent(type, swiftCode, swiftCode.substring(0, 8), countryISO2);
+    }
+}
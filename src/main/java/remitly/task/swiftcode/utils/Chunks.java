@@ -0,0 +1,24 @@
+package remitly.task.swiftcode.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Splits values into fixed-size chunks, used to keep {@code IN} lists of bulk queries bounded.
+ */
+public final class Chunks {
+    public static final int QUERY_CHUNK_SIZE = 1000;
+
+    private Chunks() {
+    }
+
+    public static <T> List<List<T>> of(Collection<T> values, int size) {
+        List<T> list = List.copyOf(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += size) {
+            chunks.add(list.subList(from, Math.min(from + size, list.size())));
+        }
+        return chunks;
+    }
+}
@@ -2,24 +2,80 @@ package remitly.task.swiftcode.utils;
 
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+
+/**
+ * Request parameter checks, run on every endpoint. Each check is a single pass over the characters
+ * and allocates nothing unless it fails.
+ * <p>
+ * SWIFT codes are checked against the BIC structure: 4 characters of party prefix, a known ISO2
+ * country code, a location code and a branch code. Location codes never start with {@code 0} or
+ * {@code 1} and their second character is never the letter {@code O}.
+ */
 @Component
 public class DataValidator {
+    private static final int SWIFT_CODE_LENGTH = 11;
+    private static final int COUNTRY_OFFSET = 4;
+    private static final int LOCATION_OFFSET = 6;
+    private static final boolean[] KNOWN_COUNTRIES = knownCountries();
 
     public void validateSwiftCode(String swiftCode) {
-        if (swiftCode == null || swiftCode.trim().isEmpty()) {
+        if (swiftCode == null || isBlank(swiftCode)) {
             throw new IllegalArgumentException("SwiftCode must not be null or empty");
         }
-        if (!swiftCode.matches("^[A-Z0-9]{11}$")) {
+        if (swiftCode.length() != SWIFT_CODE_LENGTH) {
             throw new IllegalArgumentException("Invalid swiftCode format. Expected 11 uppercase letters/numbers");
         }
+        for (int i = 0; i < SWIFT_CODE_LENGTH; i++) {
+            char c = swiftCode.charAt(i);
+            if (!isUpperCaseLetter(c) && (c < '0' || c > '9')) {
+                throw new IllegalArgumentException("Invalid swiftCode format. Expected 11 uppercase letters/numbers");
+            }
+        }
+        if (!isKnownCountry(swiftCode.charAt(COUNTRY_OFFSET), swiftCode.charAt(COUNTRY_OFFSET + 1))) {
+            throw new IllegalArgumentException("Invalid swiftCode country code. Expected a known ISO2 code at positions 5-6");
+        }
+        char location = swiftCode.charAt(LOCATION_OFFSET);
+        if (location == '0' || location == '1' || swiftCode.charAt(LOCATION_OFFSET + 1) == 'O') {
+            throw new IllegalArgumentException(
+                    "Invalid swiftCode location code. It must not start with 0 or 1 or end with the letter O");
+        }
     }
 
     public void validateCountryISO2(String countryISO2) {
-        if (countryISO2 == null || countryISO2.trim().isEmpty()) {
+        if (countryISO2 == null || isBlank(countryISO2)) {
             throw new IllegalArgumentException("Country ISO2 code must not be null or empty");
         }
-        if (!countryISO2.matches("^[A-Z]{2}$")) {
+        if (countryISO2.length() != 2 || !isUpperCaseLetter(countryISO2.charAt(0)) || !isUpperCaseLetter(countryISO2.charAt(1))) {
             throw new IllegalArgumentException("Invalid country ISO2 code. Expected 2 uppercase letters");
         }
     }
+
+    /**
+     * Same notion of blank as {@code value.trim().isEmpty()}, without creating the trimmed copy.
+     */
+    private static boolean isBlank(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') return false;
+        }
+        return true;
+    }
+
+    private static boolean isUpperCaseLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isKnownCountry(char first, char second) {
+        return isUpperCaseLetter(first) && isUpperCaseLetter(second) && KNOWN_COUNTRIES[(first - 'A') * 26 + (second - 'A')];
+    }
+
+    private static boolean[] knownCountries() {
+        boolean[] known = new boolean[26 * 26];
+        for (String iso2 : Locale.getISOCountries()) {
+            known[(iso2.charAt(0) - 'A') * 26 + (iso2.charAt(1) - 'A')] = true;
+        }
+        // Kosovo: user-assigned in ISO 3166, but issued BICs under XK
+        known[('X' - 'A') * 26 + ('K' - 'A')] = true;
+        return known;
+    }
 }
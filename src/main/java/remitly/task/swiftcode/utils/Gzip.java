@@ -0,0 +1,63 @@
+package remitly.task.swiftcode.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip encoding of response bodies the application compresses itself: cached bodies, and responses
+ * carrying a strong ETag, which Tomcat's {@code server.compression} leaves uncompressed.
+ */
+public final class Gzip {
+    private Gzip() {
+    }
+
+    public static byte[] compress(byte[] data) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Whether {@code Accept-Encoding} allows gzip (RFC 9110, section 12.5.3): {@code gzip} or
+     * {@code x-gzip} with a non-zero quality, or else {@code *} with a non-zero quality. {@code q=0}
+     * refuses the coding, and so does a malformed quality.
+     *
+     * @param acceptEncoding the request's {@code Accept-Encoding} header, may be {@code null}
+     */
+    public static boolean isAccepted(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        double gzip = -1;
+        double any = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parameters = element.split(";");
+            String coding = parameters[0].trim();
+            double quality = quality(parameters);
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzip = Math.max(gzip, quality);
+            } else if (coding.equals("*")) {
+                any = Math.max(any, quality);
+            }
+        }
+        return gzip >= 0 ? gzip > 0 : any > 0;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() < 2 || !parameter.regionMatches(true, 0, "q=", 0, 2)) continue;
+            try {
+                double quality = Double.parseDouble(parameter.substring(2).trim());
+                return quality >= 0 && quality <= 1 ? quality : 0;
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 1;
+    }
+}
@@ -3,7 +3,9 @@ package remitly.task.swiftcode.utils;
 import org.springframework.stereotype.Component;
 import remitly.task.swiftcode.dto.BranchSwiftCodeDTO;
 import remitly.task.swiftcode.dto.CountrySwiftCodeDTO;
+import remitly.task.swiftcode.dto.CountrySwiftCodePageDTO;
 import remitly.task.swiftcode.dto.HeadquarterSwiftCodeDTO;
+import remitly.task.swiftcode.dto.HeadquarterSwiftCodeSummaryDTO;
 import remitly.task.swiftcode.dto.SwiftCodeDTO;
 import remitly.task.swiftcode.model.Country;
 import remitly.task.swiftcode.model.Swift;
@@ -24,7 +26,7 @@ public class SwiftCodeDetailsMapper {
                 .build();
     }
 
-    public HeadquarterSwiftCodeDTO mapToHeadquarterSwiftCodeDTO(Swift swift, List<Swift> branches) {
+    public HeadquarterSwiftCodeDTO mapToHeadquarterSwiftCodeDTO(Swift swift, List<SwiftCodeDTO> branches) {
         return HeadquarterSwiftCodeDTO.builder()
                 .swiftCode(swift.getSwiftCode())
                 .address(swift.getAddress())
@@ -32,7 +34,19 @@ public class SwiftCodeDetailsMapper {
                 .countryISO2(swift.getCountry().getIso2())
                 .countryName(swift.getCountry().getName())
                 .isHeadquarter(swift.isHeadquarter())
-                .branches(mapToSwiftCodeDTOs(branches))
+                .branches(branches)
+                .build();
+    }
+
+    public HeadquarterSwiftCodeSummaryDTO mapToHeadquarterSwiftCodeSummaryDTO(Swift swift, int branchCount) {
+        return HeadquarterSwiftCodeSummaryDTO.builder()
+                .swiftCode(swift.getSwiftCode())
+                .address(swift.getAddress())
+                .bankName(swift.getBankName())
+                .countryISO2(swift.getCountry().getIso2())
+                .countryName(swift.getCountry().getName())
+                .isHeadquarter(swift.isHeadquarter())
+                .branchCount(branchCount)
                 .build();
     }
 
@@ -48,11 +62,20 @@ public class SwiftCodeDetailsMapper {
                 .toList();
     }
 
-    public CountrySwiftCodeDTO mapToCountrySwiftCodeDTO(Country country, List<Swift> swiftCodes ) {
+    public CountrySwiftCodeDTO mapToCountrySwiftCodeDTO(Country country, List<SwiftCodeDTO> swiftCodes) {
         return CountrySwiftCodeDTO.builder()
                 .countryISO2(country.getIso2())
                 .countryName(country.getName())
-                .swiftCodes(mapToSwiftCodeDTOs(swiftCodes))
+                .swiftCodes(swiftCodes)
+                .build();
+    }
+
+    public CountrySwiftCodePageDTO mapToCountrySwiftCodePageDTO(Country country, List<SwiftCodeDTO> swiftCodes, String nextCursor) {
+        return CountrySwiftCodePageDTO.builder()
+                .countryISO2(country.getIso2())
+                .countryName(country.getName())
+                .swiftCodes(swiftCodes)
+                .nextCursor(nextCursor)
                 .build();
     }
 }
@@ -0,0 +1,129 @@
+package remitly.task.swiftcode.utils;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import remitly.task.swiftcode.dto.BranchSwiftCodeDTO;
+import remitly.task.swiftcode.dto.CompactSwiftCodeListDTO;
+import remitly.task.swiftcode.dto.HeadquarterSwiftCodeDTO;
+import remitly.task.swiftcode.dto.HeadquarterSwiftCodeSummaryDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Response shaping for clients that need less than the full DTOs. A {@code fields} projection names
+ * the code-level properties to write; the others are skipped by a Jackson property filter while
+ * serializing, so they are never rendered. Nested lists ({@code branches}) are always kept and
+ * projected the same way. The filter lives on private copies of the application's JSON and CBOR
+ * mappers, so regular responses are serialized exactly as before.
+ * <p>
+ * The compact form of a country listing writes the column names once and every code as a JSON array
+ * of values in that order, instead of repeating the property names on every element.
+ */
+@Component
+public class SwiftCodeProjection {
+    public static final List<String> FIELDS = List.of(
+            "swiftCode", "bankName", "address", "countryISO2", "countryName", "isHeadquarter", "branchCount");
+    private static final String FILTER_ID = "swiftCodeFields";
+    private static final Set<String> NESTED = Set.of("branches");
+    private static final List<Column> COLUMNS = List.of(
+            new Column("swiftCode", SwiftCodeDTO::getSwiftCode),
+            new Column("bankName", SwiftCodeDTO::getBankName),
+            new Column("address", SwiftCodeDTO::getAddress),
+            new Column("countryISO2", SwiftCodeDTO::getCountryISO2),
+            new Column("isHeadquarter", SwiftCodeDTO::isHeadquarter));
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+
+    @Autowired
+    public SwiftCodeProjection(ObjectMapper objectMapper, MappingJackson2CborHttpMessageConverter cborConverter) {
+        this(objectMapper, cborConverter.getObjectMapper());
+    }
+
+    public SwiftCodeProjection(ObjectMapper jsonMapper, ObjectMapper cborMapper) {
+        this.jsonMapper = projecting(jsonMapper);
+        this.cborMapper = projecting(cborMapper);
+    }
+
+    /**
+     * @param fields comma-separated property names, or {@code null} for all of them
+     * @return the requested properties, in {@link #FIELDS} order
+     */
+    public Set<String> parseFields(String fields) {
+        if (fields == null) return new LinkedHashSet<>(FIELDS);
+        Set<String> requested = new HashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Invalid fields. Expected a comma-separated subset of " + String.join(", ", FIELDS));
+            }
+            requested.add(name);
+        }
+        Set<String> ordered = new LinkedHashSet<>();
+        FIELDS.stream().filter(requested::contains).forEach(ordered::add);
+        return ordered;
+    }
+
+    /**
+     * @param binary {@code true} for the CBOR wire format, {@code false} for JSON
+     */
+    public byte[] write(Object body, Set<String> fields, boolean binary) {
+        Set<String> included = new HashSet<>(fields);
+        included.addAll(NESTED);
+        ObjectWriter writer = (binary ? cborMapper : jsonMapper).writer(new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(included)));
+        try {
+            return writer.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response", e);
+        }
+    }
+
+    public CompactSwiftCodeListDTO compact(String countryISO2, String countryName, List<SwiftCodeDTO> swiftCodes,
+                                           String nextCursor, Set<String> fields) {
+        List<Column> columns = COLUMNS.stream().filter(column -> fields.contains(column.name())).toList();
+        List<Object[]> rows = new ArrayList<>(swiftCodes.size());
+        for (SwiftCodeDTO swiftCode : swiftCodes) {
+            Object[] row = new Object[columns.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = columns.get(i).value().apply(swiftCode);
+            }
+            rows.add(row);
+        }
+        return CompactSwiftCodeListDTO.builder()
+                .countryISO2(countryISO2)
+                .countryName(countryName)
+                .columns(columns.stream().map(Column::name).toList())
+                .rows(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static ObjectMapper projecting(ObjectMapper mapper) {
+        return mapper.copy()
+                .addMixIn(SwiftCodeDTO.class, FieldFilter.class)
+                .addMixIn(BranchSwiftCodeDTO.class, FieldFilter.class)
+                .addMixIn(HeadquarterSwiftCodeDTO.class, FieldFilter.class)
+                .addMixIn(HeadquarterSwiftCodeSummaryDTO.class, FieldFilter.class);
+    }
+
+    @JsonFilter(FILTER_ID)
+    private interface FieldFilter {
+    }
+
+    private record Column(String name, Function<SwiftCodeDTO, Object> value) {
+    }
+}
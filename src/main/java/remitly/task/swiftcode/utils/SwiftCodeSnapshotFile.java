@@ -0,0 +1,259 @@
+package remitly.task.swiftcode.utils;
+
+import org.springframework.stereotype.Component;
+import remitly.task.swiftcode.dto.SwiftCodeRow;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Cache of the POI parse of the imported spreadsheet: the rows of {@code data.xlsx} in a compact binary
+ * form that an import reads in place of the XLSX. It only replaces the parse; the rows are still
+ * inserted into the database, and the in-memory engine is still loaded from there. The build writes
+ * one for the bundled {@code data.xlsx} to the classpath as {@value #BUNDLED_RESOURCE} (see {@link #main}).
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * header   magic "SWFT", format version, source checksum, record count, reserved    24 bytes
+ * records  in sheet order: SWIFT code, country ISO2, then country name, bank name
+ *          and address, each as a UTF-8 byte length (-1 for null) and the bytes
+ * </pre>
+ * Records are appended as rows arrive, so writing keeps no more than one row in memory, and replaying
+ * them in sheet order makes imported ids (and the listings ordered by them) match an import from
+ * XLSX. The source checksum identifies the spreadsheet the file was built from; a file with another
+ * checksum or format version is stale.
+ */
+@Component
+public class SwiftCodeSnapshotFile {
+    public static final int FORMAT_VERSION = 2;
+    public static final String BUNDLED_RESOURCE = "swiftcodes.bin";
+    private static final int MAGIC = 0x53574654;
+    private static final int HEADER_SIZE = 24;
+    private static final int RECORD_COUNT_OFFSET = 16;
+    private static final int SWIFT_CODE_LENGTH = 11;
+
+    /**
+     * Builds the snapshot of a spreadsheet at build time: {@code <spreadsheet> <snapshot>}.
+     */
+    public static void main(String[] args) throws IOException {
+        Path spreadsheet = Path.of(args[0]);
+        Path path = Path.of(args[1]);
+        long checksum;
+        try (InputStream inputStream = Files.newInputStream(spreadsheet)) {
+            checksum = checksum(inputStream);
+        }
+        try (Writer writer = new SwiftCodeSnapshotFile().create(path, checksum);
+             InputStream inputStream = Files.newInputStream(spreadsheet)) {
+            long rows = new XlsxSwiftCodeReader().read(inputStream, writer);
+            writer.commit();
+            System.out.printf("Wrote %d SWIFT code rows of %s to %s%n", rows, spreadsheet, path);
+        }
+    }
+
+    /**
+     * @return CRC32 of the whole stream, which identifies the spreadsheet a snapshot was built from
+     */
+    public static long checksum(InputStream inputStream) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(inputStream, new CRC32());
+        checked.transferTo(OutputStream.nullOutputStream());
+        return checked.getChecksum().getValue();
+    }
+
+    /**
+     * Starts a snapshot of the spreadsheet with {@code sourceChecksum}. Rows handed to the writer go to
+     * a temporary file next to {@code path}, which {@link Writer#commit()} moves over it atomically.
+     */
+    public Writer create(Path path, long sourceChecksum) {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)));
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(sourceChecksum);
+            output.writeInt(0);
+            output.writeInt(0);
+            return new Writer(path, temp, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create SWIFT code snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Copies a snapshot, such as the one bundled on the classpath, to {@code path}, replacing it atomically.
+     */
+    public void install(InputStream snapshot, Path path) {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+            try {
+                Files.copy(snapshot, temp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to install SWIFT code snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Maps {@code path} read-only. The mapping stays valid after this method returns.
+     *
+     * @return the snapshot, or empty when the file is missing, of another format version or built
+     * from another source
+     */
+    public Optional<Snapshot> open(Path path, long sourceChecksum) {
+        if (!Files.isRegularFile(path)) return Optional.empty();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) return Optional.empty();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION || buffer.getLong(8) != sourceChecksum) {
+                return Optional.empty();
+            }
+            return Optional.of(new Snapshot(buffer));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map SWIFT code snapshot " + path, e);
+        }
+    }
+
+    private static byte[] ascii(String value, int length) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length != length) throw new IllegalArgumentException("Expected " + length + " characters: " + value);
+        return bytes;
+    }
+
+    /**
+     * Appends rows to a new snapshot. A row that cannot be written (a malformed code, an I/O error)
+     * stops the writer instead of the caller's import; {@link #commit()} then reports it. Closing
+     * an uncommitted writer discards the temporary file.
+     */
+    public static final class Writer implements Consumer<SwiftCodeRow>, AutoCloseable {
+        private final Path path;
+        private final Path temp;
+        private final DataOutputStream output;
+        private int recordCount;
+        private RuntimeException failure;
+        private boolean committed;
+
+        private Writer(Path path, Path temp, DataOutputStream output) {
+            this.path = path;
+            this.temp = temp;
+            this.output = output;
+        }
+
+        @Override
+        public void accept(SwiftCodeRow row) {
+            if (failure != null) return;
+            try {
+                output.write(ascii(row.getSwiftCode(), SWIFT_CODE_LENGTH));
+                output.write(ascii(row.getCountryISO2(), 2));
+                writeString(row.getCountryName());
+                writeString(row.getBankName());
+                writeString(row.getAddress());
+                recordCount++;
+            } catch (IOException e) {
+                failure = new UncheckedIOException("Failed to write SWIFT code snapshot " + path, e);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        /**
+         * Completes the header and moves the file to its path.
+         *
+         * @throws RuntimeException when a row could not be written; the previous file stays in place
+         */
+        public void commit() {
+            if (failure != null) throw failure;
+            try {
+                output.close();
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, recordCount), RECORD_COUNT_OFFSET);
+                    channel.force(true);
+                }
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                committed = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write SWIFT code snapshot " + path, e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (committed) return;
+            output.close();
+            Files.deleteIfExists(temp);
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                output.writeInt(-1);
+                return;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(encoded.length);
+            output.write(encoded);
+        }
+    }
+
+    /**
+     * Read-only view over a mapped snapshot file. Rows are decoded on access.
+     */
+    public static final class Snapshot {
+        private final ByteBuffer buffer;
+        private final int recordCount;
+
+        private Snapshot(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.recordCount = buffer.getInt(RECORD_COUNT_OFFSET);
+        }
+
+        public int size() {
+            return recordCount;
+        }
+
+        /**
+         * Hands every row to {@code consumer} in sheet order.
+         */
+        public void forEach(Consumer<SwiftCodeRow> consumer) {
+            ByteBuffer records = buffer.duplicate().position(HEADER_SIZE);
+            byte[] code = new byte[SWIFT_CODE_LENGTH];
+            byte[] iso2 = new byte[2];
+            for (int i = 0; i < recordCount; i++) {
+                records.get(code).get(iso2);
+                consumer.accept(SwiftCodeRow.builder()
+                        .swiftCode(new String(code, StandardCharsets.US_ASCII))
+                        .countryISO2(new String(iso2, StandardCharsets.US_ASCII))
+                        .countryName(string(records))
+                        .bankName(string(records))
+                        .address(string(records))
+                        .build());
+            }
+        }
+
+        private static String string(ByteBuffer records) {
+            int length = records.getInt();
+            if (length < 0) return null;
+            byte[] bytes = new byte[length];
+            records.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package remitly.task.swiftcode.utils;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import remitly.task.swiftcode.dto.SwiftCodeRow;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Streams SWIFT code rows out of the first sheet of an XLSX file using the POI event API,
+ * so the sheet is never materialized as a {@code Workbook}.
+ */
+@Component
+public class XlsxSwiftCodeReader {
+    private static final int ISO2_COLUMN = 0;
+    private static final int SWIFT_CODE_COLUMN = 1;
+    private static final int BANK_NAME_COLUMN = 3;
+    private static final int ADDRESS_COLUMN = 4;
+    private static final int COUNTRY_NAME_COLUMN = 6;
+    private static final int COLUMN_COUNT = 7;
+
+    /**
+     * Reads every data row (the header row is skipped) and hands it to {@code consumer}.
+     *
+     * @return number of rows passed to the consumer
+     */
+    public long read(InputStream inputStream, Consumer<SwiftCodeRow> consumer) {
+        try (OPCPackage pkg = OPCPackage.open(inputStream)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            RowHandler handler = new RowHandler(consumer);
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), strings, handler, false));
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if (!sheets.hasNext()) throw new IllegalStateException("Excel file contains no sheets");
+            try (InputStream sheet = sheets.next()) {
+                parser.parse(new InputSource(sheet));
+            }
+            return handler.rowCount;
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to read Excel file: " + e.getMessage(), e);
+        }
+    }
+
+    private static final class RowHandler implements SheetContentsHandler {
+        private final Consumer<SwiftCodeRow> consumer;
+        private final String[] cells = new String[COLUMN_COUNT];
+        private boolean header;
+        private long rowCount;
+
+        private RowHandler(Consumer<SwiftCodeRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            header = rowNum == 0;
+            Arrays.fill(cells, "");
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (header || cells[SWIFT_CODE_COLUMN].isEmpty()) return;
+            consumer.accept(SwiftCodeRow.builder()
+                    .countryISO2(cells[ISO2_COLUMN])
+                    .swiftCode(cells[SWIFT_CODE_COLUMN])
+                    .bankName(cells[BANK_NAME_COLUMN])
+                    .address(cells[ADDRESS_COLUMN])
+                    .countryName(cells[COUNTRY_NAME_COLUMN])
+                    .build());
+            rowCount++;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = new CellReference(cellReference).getCol();
+            if (column < COLUMN_COUNT && formattedValue != null) cells[column] = formattedValue;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package remitly.task.swiftcode.controller;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import remitly.task.swiftcode.repository.QueryCounter;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessLogFilterTest {
+    private static final String URI = "/v1/swift-codes/DEUTDEFFXXX";
+    private static final String SELECT = "select 1";
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger(AccessLogFilter.LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final StatementInspector queryCounter = new QueryCounter();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    void shouldLogLatencyAndQueryCountOfSampledSuccess() throws Exception {
+        //given
+        AccessLogFilter filter = new AccessLogFilter(1.0);
+        //when
+        filter.doFilter(request(), new MockHttpServletResponse(), withStatus(HttpServletResponse.SC_OK, 2));
+        //then
+        assertEquals(1, appender.list.size());
+        Map<String, Object> fields = fields(appender.list.get(0));
+        assertEquals("GET", fields.get("method"));
+        assertEquals(URI, fields.get("uri"));
+        assertEquals(200, fields.get("status"));
+        assertEquals(2, fields.get("dbQueries"));
+        assertTrue((double) fields.get("latencyMs") >= 0);
+    }
+
+    @Test
+    void shouldSkipUnsampledSuccessButAlwaysLogFailures() throws Exception {
+        //given
+        AccessLogFilter filter = new AccessLogFilter(0.0);
+        //when
+        filter.doFilter(request(), new MockHttpServletResponse(), withStatus(HttpServletResponse.SC_OK, 0));
+        filter.doFilter(request(), new MockHttpServletResponse(), withStatus(HttpServletResponse.SC_BAD_REQUEST, 1));
+        //then
+        assertEquals(1, appender.list.size());
+        assertEquals(400, fields(appender.list.get(0)).get("status"));
+    }
+
+    @Test
+    void shouldLogExceptionsAsServerErrors() {
+        //given
+        AccessLogFilter filter = new AccessLogFilter(0.0);
+        FilterChain failing = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+        //when
+        assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request(), new MockHttpServletResponse(), failing));
+        //then
+        Map<String, Object> fields = fields(appender.list.get(0));
+        assertEquals(500, fields.get("status"));
+        assertEquals("IllegalStateException", fields.get("exception"));
+    }
+
+    @Test
+    void shouldIgnoreNonApiRequests() throws Exception {
+        //given
+        AccessLogFilter filter = new AccessLogFilter(1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), withStatus(HttpServletResponse.SC_OK, 0));
+        //then
+        assertTrue(appender.list.isEmpty());
+    }
+
+    private FilterChain withStatus(int status, int queries) {
+        return (request, response) -> {
+            for (int i = 0; i < queries; i++) queryCounter.inspect(SELECT);
+            ((HttpServletResponse) response).setStatus(status);
+        };
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", URI);
+    }
+
+    private static Map<String, Object> fields(ILoggingEvent event) {
+        return event.getKeyValuePairs().stream()
+                .filter(pair -> pair.value != null)
+                .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+    }
+}
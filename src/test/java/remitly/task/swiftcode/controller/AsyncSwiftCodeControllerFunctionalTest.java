@@ -0,0 +1,241 @@
+package remitly.task.swiftcode.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import remitly.task.swiftcode.dto.SwiftCodeBulkAddRequestDTO;
+import remitly.task.swiftcode.dto.SwiftCodeBulkDeleteRequestDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeLookupRequestDTO;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.service.CountryCache;
+import remitly.task.swiftcode.service.HeadquarterBranchAggregates;
+import remitly.task.swiftcode.service.SwiftCodeSearchService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class AsyncSwiftCodeControllerFunctionalTest {
+    private static final String SWIFT_CODE_URL = "/v1/async/swift-codes";
+    private static final String COUNTRY_SWIFT_CODE_URL = "/v1/async/swift-codes/country/";
+    private static final String LOOKUP_URL = "/v1/async/swift-codes/lookup";
+    private static final String BULK_URL = "/v1/async/swift-codes/bulk";
+    private static final String SEARCH_URL = "/v1/async/swift-codes/search";
+    private static final String BANK_NAME = "Bank name";
+    private static final String SEARCHABLE_BANK_NAME = "Asynchronous bank";
+    private static final String ADDRESS = "Taunusanlage 12";
+    private static final String HQ_SWIFT_CODE = "DEUTDEFFXXX";
+    private static final String BRANCH_SWIFT_CODE = "DEUTDEFF500";
+    private static final String INVALID_SWIFT_CODE = "invalidSWIFT";
+    private static final String NONEXISTENT_SWIFT_CODE = "NOEXPLPWXXX";
+    private static final String NEW_SWIFT_CODE = "TESTDEFF123";
+    private static final String COUNTRY_ISO_DE = "DE";
+    private static final String COUNTRY_ISO_XY = "XY";
+    private static final String COUNTRY_GERMANY = "Germany";
+    private static final String SWIFT_CODE_CREATED_MSG = "SWIFT code added successfully";
+    private static final String SWIFT_CODE_DELETED_MSG = "SWIFT code deleted successfully";
+    private static final String INVALID_SWIFT_CODE_FORMAT_MSG = "Invalid swiftCode format. Expected 11 uppercase letters/numbers";
+    private static final String SWIFT_CODE_NOT_FOUND_MSG = "No records for provided swiftCode: ";
+    private static final String COUNTRY_NOT_FOUND_MSG = "No country found for code: ";
+    private static final String INVALID_LIMIT_MSG = "Invalid limit. Expected a value between 1 and 1000";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private SwiftRepository swiftRepository;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private HeadquarterBranchAggregates branchAggregates;
+    @Autowired
+    private CountryCache countryCache;
+    @Autowired
+    private SwiftCodeSearchService swiftCodeSearchService;
+
+    @BeforeEach
+    void setUp() {
+        Country germany = new Country(COUNTRY_GERMANY, COUNTRY_ISO_DE);
+        countryRepository.save(germany);
+        swiftRepository.saveAll(List.of(
+                new Swift(HQ_SWIFT_CODE, ADDRESS, BANK_NAME, false, germany),
+                new Swift(BRANCH_SWIFT_CODE, ADDRESS, BANK_NAME, true, germany)
+        ));
+        branchAggregates.reload();
+        countryCache.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        swiftRepository.deleteAll();
+        countryRepository.deleteAll();
+    }
+
+    @Test
+    void shouldReturnSwiftDetailsAsynchronously() throws Exception {
+        //when //then
+        performAsync(get(SWIFT_CODE_URL + "/" + BRANCH_SWIFT_CODE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCode").value(BRANCH_SWIFT_CODE))
+                .andExpect(jsonPath("$.countryName").value(COUNTRY_GERMANY))
+                .andExpect(jsonPath("$.branches[0].swiftCode").value(HQ_SWIFT_CODE));
+    }
+
+    @Test
+    void shouldReturn400AsynchronouslyForInvalidOrUnknownSwiftCode() throws Exception {
+        //when //then
+        performAsync(get(SWIFT_CODE_URL + "/" + INVALID_SWIFT_CODE))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_SWIFT_CODE_FORMAT_MSG));
+        performAsync(get(SWIFT_CODE_URL + "/" + NONEXISTENT_SWIFT_CODE))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(SWIFT_CODE_NOT_FOUND_MSG + NONEXISTENT_SWIFT_CODE));
+    }
+
+    @Test
+    void shouldReturnCountrySwiftCodesAsynchronously() throws Exception {
+        //when //then
+        performAsync(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countryName").value(COUNTRY_GERMANY))
+                .andExpect(jsonPath("$.swiftCodes.length()").value(2));
+        performAsync(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_XY))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(COUNTRY_NOT_FOUND_MSG + COUNTRY_ISO_XY));
+    }
+
+    @Test
+    void shouldLookUpSwiftCodesAsynchronously() throws Exception {
+        //given
+        SwiftCodeLookupRequestDTO request = new SwiftCodeLookupRequestDTO(List.of(HQ_SWIFT_CODE, INVALID_SWIFT_CODE));
+        //when //then
+        performAsync(post(LOOKUP_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].found").value(true))
+                .andExpect(jsonPath("$.results[1].message").value(INVALID_SWIFT_CODE_FORMAT_MSG));
+    }
+
+    @Test
+    void shouldCreateAndDeleteSwiftCodeAsynchronously() throws Exception {
+        //given
+        SwiftCodeDTO newSwiftCode = new SwiftCodeDTO(ADDRESS, BANK_NAME, COUNTRY_ISO_DE, false, NEW_SWIFT_CODE);
+        //when //then
+        performAsync(post(SWIFT_CODE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newSwiftCode)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SWIFT_CODE_CREATED_MSG));
+        assertTrue(swiftRepository.findBySwiftCode(NEW_SWIFT_CODE).isPresent());
+        performAsync(delete(SWIFT_CODE_URL + "/" + NEW_SWIFT_CODE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SWIFT_CODE_DELETED_MSG));
+        assertFalse(swiftRepository.findBySwiftCode(NEW_SWIFT_CODE).isPresent());
+    }
+
+    @Test
+    void shouldPageAndProjectCountrySwiftCodesAsynchronously() throws Exception {
+        //when //then
+        performAsync(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE).param("limit", "1").param("fields", "swiftCode"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes.length()").value(1))
+                .andExpect(jsonPath("$.swiftCodes[0].swiftCode").value(BRANCH_SWIFT_CODE))
+                .andExpect(jsonPath("$.swiftCodes[0].bankName").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(BRANCH_SWIFT_CODE));
+        performAsync(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE).param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_LIMIT_MSG));
+    }
+
+    @Test
+    void shouldReturn304AsynchronouslyWhenSwiftCodeDetailsNotModified() throws Exception {
+        //given
+        String eTag = performAsync(get(SWIFT_CODE_URL + "/" + BRANCH_SWIFT_CODE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        //when //then
+        performAsync(get(SWIFT_CODE_URL + "/" + BRANCH_SWIFT_CODE).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldAddSearchAndDeleteSwiftCodesInBulkAsynchronously() throws Exception {
+        //given
+        swiftCodeSearchService.reload();
+        SwiftCodeBulkAddRequestDTO addRequest = new SwiftCodeBulkAddRequestDTO(List.of(
+                new SwiftCodeDTO(ADDRESS, SEARCHABLE_BANK_NAME, COUNTRY_ISO_DE, false, NEW_SWIFT_CODE)));
+        SwiftCodeBulkDeleteRequestDTO deleteRequest = new SwiftCodeBulkDeleteRequestDTO(List.of(NEW_SWIFT_CODE));
+        //when //then
+        performAsync(post(BULK_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(addRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(1));
+        performAsync(get(SEARCH_URL).param("q", SEARCHABLE_BANK_NAME))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].swiftCode").value(NEW_SWIFT_CODE));
+        performAsync(delete(BULK_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(deleteRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(1));
+        assertFalse(swiftRepository.findBySwiftCode(NEW_SWIFT_CODE).isPresent());
+    }
+
+    @Test
+    void shouldStreamCountrySwiftCodes() throws Exception {
+        //when
+        String body = performAsync(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE + "/stream"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        //then
+        assertEquals(2, body.split("\n").length);
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_XY + "/stream"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(COUNTRY_NOT_FOUND_MSG + COUNTRY_ISO_XY));
+    }
+
+    private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -0,0 +1,142 @@
+package remitly.task.swiftcode.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import remitly.task.swiftcode.SwiftcodeApplication;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.SwiftBatchRepository;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load against the real server, once with the default platform-thread Tomcat pool
+ * and once with the {@code virtual} profile. Each of {@value #CLIENTS} clients sends SWIFT code
+ * lookups back to back for {@value #DURATION_SECONDS} s; throughput and latency percentiles are
+ * printed per mode. Caching is disabled so every request reaches the database.
+ * <p>
+ * Not part of the regular build. Modes running in the same JVM share JIT warm-up, so measure one mode
+ * per run ({@code loadtest.clients} and {@code loadtest.duration} tune the load):
+ * {@code mvn test -Dtest=ExecutionModeLoadTest -Dbenchmark=true -Dloadtest.modes=platform}, then
+ * {@code -Dloadtest.modes=virtual}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExecutionModeLoadTest {
+    private static final int BANKS = 10_000;
+    private static final int CODES_PER_BANK = 10;
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 400);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 20);
+    private static final int WARMUP_SECONDS = 5;
+    private static final String[] ISO_COUNTRIES = Locale.getISOCountries();
+
+    @Test
+    void comparePlatformAndVirtualThreadModes() throws Exception {
+        for (String mode : System.getProperty("loadtest.modes", "platform,virtual").split(",")) run(mode);
+    }
+
+    private void run(String profile) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SwiftcodeApplication.class)
+                .profiles("test", profile)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:swiftcode-load-" + profile + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--swiftcode.cache.enabled=false",
+                        "--logging.level.root=WARN")) {
+            populate(context.getBean(CountryRepository.class), context.getBean(SwiftBatchRepository.class));
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            load(port, WARMUP_SECONDS);
+            Result result = load(port, DURATION_SECONDS);
+            System.out.printf("%-8s clients=%d requests=%d errors=%d throughput=%.0f req/s p50=%.1f ms p99=%.1f ms max=%.1f ms%n",
+                    profile, CLIENTS, result.latencies.length, result.errors, result.latencies.length / (double) DURATION_SECONDS,
+                    percentile(result.latencies, 0.50), percentile(result.latencies, 0.99), percentile(result.latencies, 1.0));
+        }
+    }
+
+    private Result load(int port, int seconds) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> futures = new ArrayList<>(CLIENTS);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                int seed = c;
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    int bank = seed * 7919 % BANKS;
+                    while (System.nanoTime() < deadline) {
+                        bank = (bank + 104_729) % BANKS;
+                        String suffix = bank % 2 == 0 ? "XXX" : "001";
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/v1/swift-codes/" + bank(bank) + suffix)).build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) errors.incrementAndGet();
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+        List<long[]> perClient = new ArrayList<>(CLIENTS);
+        for (Future<long[]> future : futures) perClient.add(future.get());
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(all);
+        return new Result(all, errors.get());
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static void populate(CountryRepository countryRepository, SwiftBatchRepository swiftBatchRepository) {
+        List<Country> countries = new ArrayList<>(ISO_COUNTRIES.length);
+        for (String iso2 : ISO_COUNTRIES) countries.add(new Country("Country " + iso2, iso2));
+        countries = countryRepository.saveAll(countries);
+        List<Swift> swifts = new ArrayList<>(BANKS * CODES_PER_BANK);
+        for (int bank = 0; bank < BANKS; bank++) {
+            for (int i = 0; i < CODES_PER_BANK; i++) {
+                String suffix = i == 0 ? "XXX" : String.format("%03d", i);
+                swifts.add(new Swift(bank(bank) + suffix, "Address " + i, "Bank " + bank, i == 0,
+                        countries.get(bank % countries.size())));
+            }
+        }
+        swiftBatchRepository.insertAll(swifts);
+    }
+
+    private static String bank(int bank) {
+        String prefix = Integer.toString(bank, 36).toUpperCase();
+        return "0".repeat(4 - prefix.length()) + prefix + ISO_COUNTRIES[bank % ISO_COUNTRIES.length] + "22";
+    }
+
+    private record Result(long[] latencies, long errors) {
+    }
+}
@@ -0,0 +1,126 @@
+package remitly.task.swiftcode.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitFilterTest {
+    private static final String DETAILS_URL = "/v1/swift-codes/DEUTDEFFXXX";
+    private static final String LOOKUP_URL = "/v1/swift-codes/lookup";
+    private static final String ADD_URL = "/v1/swift-codes";
+    private static final String API_KEY = "partner-1";
+    private static final String PROXY = "10.0.0.1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(meterRegistry, 0.1, 2, 0.1, 1, Duration.ofMinutes(1), 100, API_KEY + ", partner-2",
+                PROXY + ", 10.0.0.2");
+    }
+
+    @Test
+    void shouldReject429WithRetryAfterOnceReadBurstIsUsed() throws Exception {
+        //when
+        MockHttpServletResponse first = perform(request("GET", DETAILS_URL));
+        MockHttpServletResponse second = perform(request("POST", LOOKUP_URL));
+        MockHttpServletResponse rejected = perform(request("GET", DETAILS_URL));
+        //then
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+        assertEquals(429, rejected.getStatus());
+        assertEquals("10", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals("{\"message\":\"Too many requests\"}", rejected.getContentAsString());
+        assertEquals(1, meterRegistry.counter(RateLimitFilter.REJECTIONS_METRIC, "quota", "read").count());
+    }
+
+    @Test
+    void shouldKeepWriteQuotaSeparateFromReads() throws Exception {
+        //when //then
+        assertEquals(200, perform(request("POST", ADD_URL)).getStatus());
+        assertEquals(429, perform(request("DELETE", DETAILS_URL)).getStatus());
+        assertEquals(200, perform(request("GET", DETAILS_URL)).getStatus());
+        assertEquals(1, meterRegistry.counter(RateLimitFilter.REJECTIONS_METRIC, "quota", "write").count());
+    }
+
+    @Test
+    void shouldLimitApiKeysIndependentlyOfAddress() throws Exception {
+        //given
+        MockHttpServletRequest withKey = request("POST", ADD_URL);
+        withKey.addHeader(RateLimitFilter.API_KEY_HEADER, API_KEY);
+        perform(request("POST", ADD_URL));
+        //when
+        MockHttpServletResponse response = perform(withKey);
+        //then
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void shouldLimitUnknownApiKeysByAddress() throws Exception {
+        //given
+        MockHttpServletRequest unknownKey = request("POST", ADD_URL);
+        unknownKey.addHeader(RateLimitFilter.API_KEY_HEADER, "random-1");
+        MockHttpServletRequest otherUnknownKey = request("POST", ADD_URL);
+        otherUnknownKey.addHeader(RateLimitFilter.API_KEY_HEADER, "random-2");
+        perform(unknownKey);
+        //when
+        MockHttpServletResponse response = perform(otherUnknownKey);
+        //then
+        assertEquals(429, response.getStatus());
+        assertEquals(1.0, meterRegistry.get("swiftcode.rate_limit.clients").tag("quota", "write").gauge().value());
+    }
+
+    @Test
+    void shouldLimitClientsBehindTrustedProxyByForwardedAddress() throws Exception {
+        //given
+        perform(forwarded(PROXY, "203.0.113.1"));
+        //when
+        MockHttpServletResponse otherClient = perform(forwarded(PROXY, "198.51.100.7, 203.0.113.2, 10.0.0.2"));
+        MockHttpServletResponse sameClient = perform(forwarded(PROXY, "203.0.113.1"));
+        MockHttpServletResponse untrusted = perform(forwarded("192.0.2.9", "203.0.113.3"));
+        MockHttpServletResponse sameUntrusted = perform(forwarded("192.0.2.9", "203.0.113.4"));
+        //then
+        assertEquals(200, otherClient.getStatus());
+        assertEquals(429, sameClient.getStatus());
+        assertEquals(200, untrusted.getStatus());
+        assertEquals(429, sameUntrusted.getStatus());
+    }
+
+    @Test
+    void shouldNotLimitNonApiRequests() throws Exception {
+        //when //then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, perform(request("GET", "/actuator/health")).getStatus());
+        }
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private static MockHttpServletRequest forwarded(String remoteAddress, String forwardedFor) {
+        MockHttpServletRequest request = request("POST", ADD_URL);
+        request.setRemoteAddr(remoteAddress);
+        request.addHeader(RateLimitFilter.FORWARDED_FOR_HEADER, forwardedFor);
+        return request;
+    }
+}
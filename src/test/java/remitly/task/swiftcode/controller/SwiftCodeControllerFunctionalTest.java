@@ -1,6 +1,13 @@
 package remitly.task.swiftcode.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,24 +15,47 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import remitly.task.swiftcode.config.WireFormatConfig;
+import remitly.task.swiftcode.dto.SwiftCodeBulkAddRequestDTO;
+import remitly.task.swiftcode.dto.SwiftCodeBulkDeleteRequestDTO;
 import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeLookupRequestDTO;
 import remitly.task.swiftcode.model.Country;
 import remitly.task.swiftcode.model.Swift;
 import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.SwiftCodeChangeRepository;
 import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.service.CountryCache;
+import remitly.task.swiftcode.service.HeadquarterBranchAggregates;
+import remitly.task.swiftcode.service.SwiftCodeSearchService;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
@@ -41,9 +71,9 @@ public class SwiftCodeControllerFunctionalTest {
     private static final String VALID_SWIFT_CODE_1 = "DEUTDEFF500";
     private static final String VALID_SWIFT_CODE_2 = "DEUTDEFF501";
     private static final String VALID_SWIFT_CODE_3 = "DEUTDEFFXXX";
-    private static final String VALID_SWIFT_CODE_4 = "EXISTUS1XXX";
+    private static final String VALID_SWIFT_CODE_4 = "EXSTUSN1XXX";
     private static final String INVALID_SWIFT_CODE = "invalidSWIFT";
-    private static final String NONEXISTENT_SWIFT_CODE = "NONEXISTENT";
+    private static final String NONEXISTENT_SWIFT_CODE = "NOEXPLPWXXX";
     private static final String EMPTY_SWIFT_CODE = " ";
     private static final String COUNTRY_ISO_DE = "DE";
     private static final String COUNTRY_ISO_US = "US";
@@ -51,7 +81,8 @@ public class SwiftCodeControllerFunctionalTest {
     private static final String COUNTRY_GERMANY = "Germany";
     private static final String COUNTRY_US = "United States";
     private static final String INVALID_COUNTRY_ISO = "--";
-    private static final String NEW_SWIFT_CODE = "TESTUS12345";
+    private static final String NEW_SWIFT_CODE = "TESTUS33123";
+    private static final String NEW_BRANCH_SWIFT_CODE = "DEUTDEFF502";
     private static final String SWIFT_CODE_EXISTS_MSG = "SWIFT code already exists: ";
     private static final String SWIFT_CODE_CREATED_MSG = "SWIFT code added successfully";
     private static final String SWIFT_CODE_DELETED_MSG = "SWIFT code deleted successfully";
@@ -60,6 +91,16 @@ public class SwiftCodeControllerFunctionalTest {
     private static final String SWIFT_CODE_NOT_FOUND_MSG = "No records for provided swiftCode: ";
     private static final String COUNTRY_NOT_FOUND_MSG = "No country found for code: ";
     private static final String SWIFT_CODE_MISSING_MSG = "SwiftCode must not be null or empty";
+    private static final String INVALID_LIMIT_MSG = "Invalid limit. Expected a value between 1 and 1000";
+    private static final String LOOKUP_URL = "/v1/swift-codes/lookup";
+    private static final String BULK_URL = "/v1/swift-codes/bulk";
+    private static final String TOO_MANY_CODES_MSG = "Too many SWIFT codes. Expected at most 10000";
+    private static final String SEARCH_URL = "/v1/swift-codes/search";
+    private static final String EMPTY_QUERY_MSG = "Search query must not be null or empty";
+    private static final String INVALID_SEARCH_LIMIT_MSG = "Invalid limit. Expected a value between 1 and 100";
+    private static final String SYNC_URL = "/v1/swift-codes/sync";
+    private static final String CHANGES_URL = "/v1/replication/changes";
+    private static final String[] SHEET_HEADER = {"COUNTRY ISO2 CODE", "SWIFT CODE", "CODE TYPE", "NAME", "ADDRESS", "TOWN NAME", "COUNTRY NAME", "TIME ZONE"};
 
     @Autowired
     private MockMvc mockMvc;
@@ -69,6 +110,16 @@ public class SwiftCodeControllerFunctionalTest {
     private CountryRepository countryRepository;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private HeadquarterBranchAggregates branchAggregates;
+    @Autowired
+    private CountryCache countryCache;
+    @Autowired
+    private SwiftCodeSearchService swiftCodeSearchService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private SwiftCodeChangeRepository swiftCodeChangeRepository;
 
     @BeforeEach
     void setUp() {
@@ -81,6 +132,8 @@ public class SwiftCodeControllerFunctionalTest {
                 new Swift(VALID_SWIFT_CODE_3, ADDRESS_1, BANK_NAME, false, us),
                 new Swift(VALID_SWIFT_CODE_4, ADDRESS_2, BANK_NAME, false, us)
         ));
+        branchAggregates.reload();
+        countryCache.reload();
     }
 
     @AfterEach
@@ -108,6 +161,152 @@ public class SwiftCodeControllerFunctionalTest {
                 .andExpect(jsonPath("$.branches[0].swiftCode").value(VALID_SWIFT_CODE_3));
     }
 
+    @Test
+    void shouldReturnBranchCountOnlyAndFollowWrites() throws Exception {
+        //given
+        SwiftCodeDTO newBranch = new SwiftCodeDTO(ADDRESS_2, BANK_NAME, COUNTRY_ISO_DE, false, NEW_BRANCH_SWIFT_CODE);
+        //when //then
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1).param("branches", "count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCode").value(VALID_SWIFT_CODE_1))
+                .andExpect(jsonPath("$.countryName").value(COUNTRY_GERMANY))
+                .andExpect(jsonPath("$.branchCount").value(1))
+                .andExpect(jsonPath("$.branches").doesNotExist());
+        mockMvc.perform(post(SWIFT_CODE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newBranch)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1).param("branches", "count"))
+                .andExpect(jsonPath("$.branchCount").value(2));
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1))
+                .andExpect(jsonPath("$.branches.length()").value(2))
+                .andExpect(jsonPath("$.branches[1].swiftCode").value(NEW_BRANCH_SWIFT_CODE));
+        mockMvc.perform(delete(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_3)).andExpect(status().isOk());
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1).param("branches", "count"))
+                .andExpect(jsonPath("$.branchCount").value(1));
+    }
+
+    @Test
+    void shouldReturn400WhenBranchesModeInvalid() throws Exception {
+        //when //then
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1).param("branches", "none"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid branches mode. Expected list or count"));
+    }
+
+    @Test
+    void shouldProjectRequestedFieldsOfHeadquarterAndBranches() throws Exception {
+        //when //then
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1).param("fields", "swiftCode,countryISO2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCode").value(VALID_SWIFT_CODE_1))
+                .andExpect(jsonPath("$.countryISO2").value(COUNTRY_ISO_DE))
+                .andExpect(jsonPath("$.bankName").doesNotExist())
+                .andExpect(jsonPath("$.isHeadquarter").doesNotExist())
+                .andExpect(jsonPath("$.branches[0].swiftCode").value(VALID_SWIFT_CODE_3))
+                .andExpect(jsonPath("$.branches[0].address").doesNotExist());
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1).param("branches", "count").param("fields", "branchCount"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.branchCount").value(1))
+                .andExpect(jsonPath("$.swiftCode").doesNotExist());
+    }
+
+    @Test
+    void shouldProjectCountryListingAndLookup() throws Exception {
+        //when //then
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_US).param("fields", "swiftCode"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countryName").value(COUNTRY_US))
+                .andExpect(jsonPath("$.swiftCodes.length()").value(2))
+                .andExpect(jsonPath("$.swiftCodes[0].swiftCode").value(VALID_SWIFT_CODE_3))
+                .andExpect(jsonPath("$.swiftCodes[0].countryISO2").doesNotExist())
+                .andExpect(jsonPath("$.swiftCodes[0].address").doesNotExist());
+        mockMvc.perform(post(LOOKUP_URL).param("fields", "bankName")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SwiftCodeLookupRequestDTO(List.of(VALID_SWIFT_CODE_4)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].swiftCode").value(VALID_SWIFT_CODE_4))
+                .andExpect(jsonPath("$.results[0].details.bankName").value(BANK_NAME))
+                .andExpect(jsonPath("$.results[0].details.swiftCode").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnCompactCountryListing() throws Exception {
+        //when //then
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_US).param("format", "compact"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countryISO2").value(COUNTRY_ISO_US))
+                .andExpect(jsonPath("$.columns[0]").value("swiftCode"))
+                .andExpect(jsonPath("$.columns.length()").value(5))
+                .andExpect(jsonPath("$.rows.length()").value(2))
+                .andExpect(jsonPath("$.rows[0][0]").value(VALID_SWIFT_CODE_3))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_US)
+                        .param("format", "compact").param("fields", "isHeadquarter,swiftCode").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0]").value("swiftCode"))
+                .andExpect(jsonPath("$.columns[1]").value("isHeadquarter"))
+                .andExpect(jsonPath("$.rows[0][0]").value(VALID_SWIFT_CODE_3))
+                .andExpect(jsonPath("$.rows[0][1]").value(false))
+                .andExpect(jsonPath("$.nextCursor").value(VALID_SWIFT_CODE_3));
+    }
+
+    @Test
+    void shouldReturn400WhenFieldsOrFormatInvalid() throws Exception {
+        //when //then
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_US).param("fields", "swiftCode,iban"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(
+                        "Invalid fields. Expected a comma-separated subset of swiftCode, bankName, address, countryISO2, countryName, isHeadquarter, branchCount"));
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_US).param("format", "csv"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid format. Expected full or compact"));
+    }
+
+    @Test
+    void shouldEncodeResponsesInBinaryWireFormatWhenAccepted() throws Exception {
+        //when
+        JsonNode headquarter = cbor(mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1).accept(WireFormatConfig.CBOR_V1)));
+        JsonNode branch = cbor(mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_3).accept(WireFormatConfig.CBOR_V1)));
+        JsonNode country = cbor(mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_US).accept(WireFormatConfig.CBOR_V1)));
+        JsonNode compact = cbor(mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_US)
+                .param("format", "compact").param("fields", "swiftCode").accept(WireFormatConfig.CBOR_V1)));
+        //then
+        assertEquals(List.of("address", "bankName", "countryISO2", "countryName", "isHeadquarter", "swiftCode", "branches"),
+                fieldNames(headquarter));
+        assertEquals(VALID_SWIFT_CODE_1, headquarter.get("swiftCode").asText());
+        assertTrue(headquarter.get("isHeadquarter").isBoolean());
+        assertEquals(List.of("address", "bankName", "countryISO2", "isHeadquarter", "swiftCode"),
+                fieldNames(headquarter.get("branches").get(0)));
+        assertEquals(List.of("address", "bankName", "countryISO2", "countryName", "isHeadquarter", "swiftCode"),
+                fieldNames(branch));
+        assertEquals(COUNTRY_US, branch.get("countryName").asText());
+        assertEquals(List.of("countryISO2", "countryName", "swiftCodes"), fieldNames(country));
+        assertEquals(VALID_SWIFT_CODE_3, country.get("swiftCodes").get(0).get("swiftCode").asText());
+        assertEquals(VALID_SWIFT_CODE_4, compact.get("rows").get(1).get(0).asText());
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_US)
+                        .header(HttpHeaders.ACCEPT, WireFormatConfig.CBOR_V1_VALUE + ";q=0.5, application/json"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.countryName").value(COUNTRY_US));
+    }
+
+    @Test
+    void shouldAcceptBinaryRequestBodyAndRejectUnknownWireFormatVersion() throws Exception {
+        //given
+        SwiftCodeDTO newSwiftCode = new SwiftCodeDTO(ADDRESS_1, BANK_NAME, COUNTRY_ISO_US, true, NEW_SWIFT_CODE);
+        //when //then
+        mockMvc.perform(post(SWIFT_CODE_URL)
+                        .contentType(WireFormatConfig.CBOR_V1)
+                        .content(new CBORMapper().writeValueAsBytes(newSwiftCode)))
+                .andExpect(status().isOk());
+        assertTrue(swiftRepository.findBySwiftCode(NEW_SWIFT_CODE).isPresent());
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + NEW_SWIFT_CODE).accept("application/vnd.swiftcode.v2+cbor"))
+                .andExpect(status().isNotAcceptable());
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_US).param("fields", "swiftCode")
+                        .accept("application/vnd.swiftcode.v2+cbor"))
+                .andExpect(status().isNotAcceptable());
+    }
+
     @Test
     void shouldReturnSwiftDetailsForValidSwiftCodeBranch() throws Exception {
         //when //then
@@ -181,6 +380,239 @@ public class SwiftCodeControllerFunctionalTest {
                 .andExpect(jsonPath("$.message").value(INVALID_ISO2_CODE_FORMAT_MSG));
     }
 
+    @Test
+    void shouldCountRequestOutcomesPerEndpoint() throws Exception {
+        //given
+        String uri = SWIFT_CODE_URL + "/{swiftCode}";
+        double success = requestCount(uri, "success");
+        double notFound = requestCount(uri, "not_found");
+        double validationFailed = requestCount(uri, "validation_failed");
+        //when
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1)).andExpect(status().isOk());
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + NONEXISTENT_SWIFT_CODE)).andExpect(status().isBadRequest());
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + INVALID_SWIFT_CODE)).andExpect(status().isBadRequest());
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + INVALID_SWIFT_CODE)).andExpect(status().isBadRequest());
+        //then
+        assertEquals(success + 1, requestCount(uri, "success"));
+        assertEquals(notFound + 1, requestCount(uri, "not_found"));
+        assertEquals(validationFailed + 2, requestCount(uri, "validation_failed"));
+    }
+
+    @Test
+    void shouldReturn304WhenSwiftCodeDetailsNotModified() throws Exception {
+        //given
+        String eTag = mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        //when //then
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldNotAnswerConditionalRequestForMissingOrInvalidResourceWith304() throws Exception {
+        //given
+        String eTag = mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_4))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        //when //then
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + NONEXISTENT_SWIFT_CODE).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + INVALID_SWIFT_CODE).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_XY).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void shouldReturnNewETagAfterWriteToSameBaseSwiftCode() throws Exception {
+        //given
+        String eTag = mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String otherETag = mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_4))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        //when
+        mockMvc.perform(delete(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_3)).andExpect(status().isOk());
+        //then
+        String newETag = mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.branches.length()").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+        mockMvc.perform(get(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_4).header(HttpHeaders.IF_NONE_MATCH, otherETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldReturn304WhenCountrySwiftCodesNotModifiedUntilCountryChanges() throws Exception {
+        //given
+        String eTag = mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        //when
+        mockMvc.perform(delete(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_2)).andExpect(status().isOk());
+        //then
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes.length()").value(1));
+    }
+
+    @Test
+    void shouldReturnFirstPageOfCountrySwiftCodesWithCursor() throws Exception {
+        //when //then
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countryISO2").value(COUNTRY_ISO_DE))
+                .andExpect(jsonPath("$.countryName").value(COUNTRY_GERMANY))
+                .andExpect(jsonPath("$.swiftCodes.length()").value(1))
+                .andExpect(jsonPath("$.swiftCodes[0].swiftCode").value(VALID_SWIFT_CODE_1))
+                .andExpect(jsonPath("$.nextCursor").value(VALID_SWIFT_CODE_1));
+    }
+
+    @Test
+    void shouldReturnLastPageOfCountrySwiftCodesAfterCursor() throws Exception {
+        //when //then
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE).param("limit", "2").param("after", VALID_SWIFT_CODE_1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCodes.length()").value(1))
+                .andExpect(jsonPath("$.swiftCodes[0].swiftCode").value(VALID_SWIFT_CODE_2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void shouldReturn400WhenPageLimitInvalid() throws Exception {
+        //when //then
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE).param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_LIMIT_MSG));
+    }
+
+    @Test
+    void shouldStreamCountrySwiftCodesAsNdjson() throws Exception {
+        //when
+        MvcResult result = mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        //then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(VALID_SWIFT_CODE_1, objectMapper.readValue(lines[0], SwiftCodeDTO.class).getSwiftCode());
+        assertEquals(VALID_SWIFT_CODE_2, objectMapper.readValue(lines[1], SwiftCodeDTO.class).getSwiftCode());
+    }
+
+    @Test
+    void shouldReturn400WhenStreamingUnknownCountry() throws Exception {
+        //when //then
+        mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_XY + "/stream"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(COUNTRY_NOT_FOUND_MSG + COUNTRY_ISO_XY));
+    }
+
+    @Test
+    void shouldLookUpManySwiftCodesWithPerCodeResults() throws Exception {
+        //given
+        SwiftCodeLookupRequestDTO request = new SwiftCodeLookupRequestDTO(
+                List.of(VALID_SWIFT_CODE_1, INVALID_SWIFT_CODE, VALID_SWIFT_CODE_4, NONEXISTENT_SWIFT_CODE, VALID_SWIFT_CODE_1));
+        //when //then
+        mockMvc.perform(post(LOOKUP_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(5))
+                .andExpect(jsonPath("$.results[0].found").value(true))
+                .andExpect(jsonPath("$.results[0].details.swiftCode").value(VALID_SWIFT_CODE_1))
+                .andExpect(jsonPath("$.results[0].details.branches[0].swiftCode").value(VALID_SWIFT_CODE_3))
+                .andExpect(jsonPath("$.results[1].found").value(false))
+                .andExpect(jsonPath("$.results[1].message").value(INVALID_SWIFT_CODE_FORMAT_MSG))
+                .andExpect(jsonPath("$.results[2].details.countryName").value(COUNTRY_US))
+                .andExpect(jsonPath("$.results[2].details.isHeadquarter").value(false))
+                .andExpect(jsonPath("$.results[3].message").value(SWIFT_CODE_NOT_FOUND_MSG + NONEXISTENT_SWIFT_CODE))
+                .andExpect(jsonPath("$.results[4].details.swiftCode").value(VALID_SWIFT_CODE_1));
+    }
+
+    @Test
+    void shouldLookUpTenThousandSwiftCodes() throws Exception {
+        //given
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) codes.add(String.format("DE%02dDEFF%03d", i / 1000, i % 1000));
+        codes.set(9_999, VALID_SWIFT_CODE_4);
+        //when //then
+        mockMvc.perform(post(LOOKUP_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SwiftCodeLookupRequestDTO(codes))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(10_000))
+                .andExpect(jsonPath("$.results[0].found").value(false))
+                .andExpect(jsonPath("$.results[9999].details.swiftCode").value(VALID_SWIFT_CODE_4));
+    }
+
+    @Test
+    void shouldReturn400WhenLookingUpTooManySwiftCodes() throws Exception {
+        //given
+        List<String> codes = new ArrayList<>(Collections.nCopies(10_001, VALID_SWIFT_CODE_1));
+        //when //then
+        mockMvc.perform(post(LOOKUP_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SwiftCodeLookupRequestDTO(codes))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(TOO_MANY_CODES_MSG));
+    }
+
+    @Test
+    void shouldSearchSwiftCodesByCodePrefixAndAddress() throws Exception {
+        //given
+        swiftCodeSearchService.reload();
+        //when //then
+        mockMvc.perform(get(SEARCH_URL).param("q", "deutdeff"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].swiftCode").value(VALID_SWIFT_CODE_1))
+                .andExpect(jsonPath("$.results[2].swiftCode").value(VALID_SWIFT_CODE_3));
+        mockMvc.perform(get(SEARCH_URL).param("q", "bank taunus").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(1))
+                .andExpect(jsonPath("$.results[0].address").value(ADDRESS_1));
+    }
+
+    @Test
+    void shouldFindAddedSwiftCodeInSearchWithoutReload() throws Exception {
+        //given
+        swiftCodeSearchService.reload();
+        SwiftCodeDTO newSwiftCode = new SwiftCodeDTO(ADDRESS_2, "Searchable bank", COUNTRY_ISO_US, false, NEW_SWIFT_CODE);
+        //when
+        mockMvc.perform(post(SWIFT_CODE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newSwiftCode)))
+                .andExpect(status().isOk());
+        //then
+        mockMvc.perform(get(SEARCH_URL).param("q", "searchable"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(1))
+                .andExpect(jsonPath("$.results[0].swiftCode").value(NEW_SWIFT_CODE));
+    }
+
+    @Test
+    void shouldReturn400WhenSearchQueryOrLimitInvalid() throws Exception {
+        //when //then
+        mockMvc.perform(get(SEARCH_URL).param("q", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(EMPTY_QUERY_MSG));
+        mockMvc.perform(get(SEARCH_URL).param("q", "bank").param("limit", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_SEARCH_LIMIT_MSG));
+    }
+
     @Test
     void shouldCreateNewSwiftCode() throws Exception {
         //given
@@ -242,6 +674,140 @@ public class SwiftCodeControllerFunctionalTest {
                 .andExpect(jsonPath("$.message").value(COUNTRY_NOT_FOUND_MSG + COUNTRY_ISO_XY));
     }
 
+    @Test
+    void shouldAddManySwiftCodesWithPerEntryResults() throws Exception {
+        //given
+        List<SwiftCodeDTO> entries = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            entries.add(new SwiftCodeDTO(ADDRESS_2, BANK_NAME, COUNTRY_ISO_US, false, String.format("BK%02dUS33%03d", i / 1000, i % 1000)));
+        }
+        entries.add(new SwiftCodeDTO(ADDRESS_2, BANK_NAME, COUNTRY_ISO_US, false, VALID_SWIFT_CODE_1));
+        entries.add(new SwiftCodeDTO(ADDRESS_2, BANK_NAME, COUNTRY_ISO_XY, false, NEW_SWIFT_CODE));
+        //when //then
+        mockMvc.perform(post(BULK_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SwiftCodeBulkAddRequestDTO(entries))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(2_000))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[2000].message").value(SWIFT_CODE_EXISTS_MSG + VALID_SWIFT_CODE_1))
+                .andExpect(jsonPath("$.results[2001].message").value(COUNTRY_NOT_FOUND_MSG + COUNTRY_ISO_XY));
+        assertEquals(2_004, swiftRepository.count());
+        mockMvc.perform(get(SWIFT_CODE_URL + "/BK01US33999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countryName").value(COUNTRY_US));
+    }
+
+    @Test
+    void shouldDeleteManySwiftCodesWithPerEntryResults() throws Exception {
+        //given
+        SwiftCodeBulkDeleteRequestDTO request = new SwiftCodeBulkDeleteRequestDTO(
+                List.of(VALID_SWIFT_CODE_1, VALID_SWIFT_CODE_2, NONEXISTENT_SWIFT_CODE));
+        //when //then
+        mockMvc.perform(delete(BULK_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[2].message").value(SWIFT_CODE_NOT_FOUND_MSG + NONEXISTENT_SWIFT_CODE));
+        assertFalse(swiftRepository.findBySwiftCode(VALID_SWIFT_CODE_1).isPresent());
+        assertFalse(swiftRepository.findBySwiftCode(VALID_SWIFT_CODE_2).isPresent());
+    }
+
+    @Test
+    void shouldSyncDirectoryWithUploadedSpreadsheet() throws Exception {
+        //given
+        MockMultipartFile file = new MockMultipartFile("file", "data.xlsx", MediaType.APPLICATION_OCTET_STREAM_VALUE, workbook(
+                SHEET_HEADER,
+                sheetRow(COUNTRY_ISO_DE, VALID_SWIFT_CODE_1, ADDRESS_1, COUNTRY_GERMANY),
+                sheetRow(COUNTRY_ISO_DE, VALID_SWIFT_CODE_2, ADDRESS_1, COUNTRY_GERMANY),
+                sheetRow(COUNTRY_ISO_US, VALID_SWIFT_CODE_3, ADDRESS_1, COUNTRY_US),
+                sheetRow(COUNTRY_ISO_US, NEW_SWIFT_CODE, ADDRESS_2, COUNTRY_US)));
+        //when //then
+        mockMvc.perform(multipart(SYNC_URL).file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.deleted").value(1))
+                .andExpect(jsonPath("$.unchanged").value(2));
+        assertEquals(ADDRESS_1, swiftRepository.findBySwiftCode(VALID_SWIFT_CODE_2).orElseThrow().getAddress());
+        assertTrue(swiftRepository.findBySwiftCode(NEW_SWIFT_CODE).isPresent());
+        assertFalse(swiftRepository.findBySwiftCode(VALID_SWIFT_CODE_4).isPresent());
+    }
+
+    @Test
+    void shouldReturn400WhenSyncFileIsNotSpreadsheet() throws Exception {
+        //given
+        MockMultipartFile file = new MockMultipartFile("file", "data.xlsx", MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                "not a workbook".getBytes());
+        //when //then
+        mockMvc.perform(multipart(SYNC_URL).file(file))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+        assertTrue(swiftRepository.findBySwiftCode(VALID_SWIFT_CODE_4).isPresent());
+    }
+
+    @Test
+    void shouldReturn400WhenSyncFileHasInvalidRowsOrWouldDeleteEverything() throws Exception {
+        //given
+        MockMultipartFile invalid = new MockMultipartFile("file", "data.xlsx", MediaType.APPLICATION_OCTET_STREAM_VALUE, workbook(
+                SHEET_HEADER,
+                sheetRow(COUNTRY_ISO_DE, VALID_SWIFT_CODE_1, ADDRESS_1, COUNTRY_GERMANY),
+                sheetRow(COUNTRY_ISO_DE, "DEUT", ADDRESS_1, COUNTRY_GERMANY)));
+        MockMultipartFile headerOnly = new MockMultipartFile("file", "data.xlsx", MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                workbook(SHEET_HEADER));
+        //when //then
+        mockMvc.perform(multipart(SYNC_URL).file(invalid))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid row 3: " + INVALID_SWIFT_CODE_FORMAT_MSG));
+        mockMvc.perform(multipart(SYNC_URL).file(headerOnly))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Synchronization would delete 4 of 4 SWIFT codes. Pass force=true to apply it"));
+        assertEquals(4, swiftRepository.count());
+        mockMvc.perform(multipart(SYNC_URL).file(headerOnly).param("force", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(4));
+    }
+
+    @Test
+    void shouldPublishWritesInChangeFeedInOrder() throws Exception {
+        //given
+        long after = swiftCodeChangeRepository.findLatestSequence();
+        SwiftCodeDTO newSwiftCode = new SwiftCodeDTO(ADDRESS_1, BANK_NAME, COUNTRY_ISO_US, true, NEW_SWIFT_CODE);
+        mockMvc.perform(post(SWIFT_CODE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newSwiftCode)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete(SWIFT_CODE_URL + "/" + VALID_SWIFT_CODE_1)).andExpect(status().isOk());
+        //when //then
+        mockMvc.perform(get(CHANGES_URL).param("after", Long.toString(after)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.changes[0].sequence").value(after + 1))
+                .andExpect(jsonPath("$.changes[0].type").value("ADDED"))
+                .andExpect(jsonPath("$.changes[0].swiftCode").value(NEW_SWIFT_CODE))
+                .andExpect(jsonPath("$.changes[0].address").value(ADDRESS_1))
+                .andExpect(jsonPath("$.changes[0].countryName").value(COUNTRY_US))
+                .andExpect(jsonPath("$.changes[1].type").value("DELETED"))
+                .andExpect(jsonPath("$.changes[1].swiftCode").value(VALID_SWIFT_CODE_1))
+                .andExpect(jsonPath("$.changes[1].countryISO2").value(COUNTRY_ISO_DE))
+                .andExpect(jsonPath("$.latestSequence").value(after + 2));
+        mockMvc.perform(get(CHANGES_URL).param("after", Long.toString(after + 1)).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].swiftCode").value(VALID_SWIFT_CODE_1));
+    }
+
+    @Test
+    void shouldReturn400WhenChangeFeedLimitInvalid() throws Exception {
+        //when //then
+        mockMvc.perform(get(CHANGES_URL).param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid limit. Expected a value between 1 and 1000"));
+    }
+
     @Test
     void shouldDeleteSwiftCode() throws Exception {
         //when //then
@@ -266,4 +832,43 @@ public class SwiftCodeControllerFunctionalTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value(INVALID_SWIFT_CODE_FORMAT_MSG));
     }
-}
\ No newline at end of file
+
+    private JsonNode cbor(ResultActions result) throws Exception {
+        MvcResult response = result
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(WireFormatConfig.CBOR_V1))
+                .andReturn();
+        return new CBORMapper().readTree(response.getResponse().getContentAsByteArray());
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private static String[] sheetRow(String countryISO2, String swiftCode, String address, String countryName) {
+        return new String[]{countryISO2, swiftCode, "BIC11", BANK_NAME, address, "TOWN", countryName, "Europe/Berlin"};
+    }
+
+    private static byte[] workbook(String[]... rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet();
+            for (int i = 0; i < rows.length; i++) {
+                Row row = sheet.createRow(i);
+                for (int j = 0; j < rows[i].length; j++) {
+                    row.createCell(j).setCellValue(rows[i][j]);
+                }
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private double requestCount(String uri, String outcome) {
+        Counter counter = meterRegistry.find(SwiftCodeRequestMetrics.METRIC)
+                .tags("uri", uri, "method", "GET", "outcome", outcome)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
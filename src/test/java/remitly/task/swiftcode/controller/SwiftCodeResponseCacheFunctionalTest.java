@@ -0,0 +1,168 @@
+package remitly.task.swiftcode.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import remitly.task.swiftcode.config.WireFormatConfig;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.service.CountryCache;
+import remitly.task.swiftcode.service.HeadquarterBranchAggregates;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:response-cache;DB_CLOSE_DELAY=-1",
+        "swiftcode.response-cache.enabled=true",
+        "swiftcode.response-cache.gzip-min-size=0"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class SwiftCodeResponseCacheFunctionalTest {
+    private static final String SWIFT_CODE_URL = "/v1/swift-codes/";
+    private static final String COUNTRY_SWIFT_CODE_URL = "/v1/swift-codes/country/";
+    private static final String BANK_NAME = "Bank name";
+    private static final String ADDRESS = "Taunusanlage 12";
+    private static final String HQ_SWIFT_CODE = "DEUTDEFFXXX";
+    private static final String BRANCH_SWIFT_CODE = "DEUTDEFF500";
+    private static final String COUNTRY_ISO_DE = "DE";
+    private static final String COUNTRY_GERMANY = "Germany";
+    private static final String GZIP = "gzip";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private SwiftRepository swiftRepository;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private HeadquarterBranchAggregates branchAggregates;
+    @Autowired
+    private CountryCache countryCache;
+
+    @BeforeEach
+    void setUp() {
+        Country germany = new Country(COUNTRY_GERMANY, COUNTRY_ISO_DE);
+        countryRepository.save(germany);
+        swiftRepository.saveAll(List.of(
+                new Swift(HQ_SWIFT_CODE, ADDRESS, BANK_NAME, true, germany),
+                new Swift(BRANCH_SWIFT_CODE, ADDRESS, BANK_NAME, false, germany)
+        ));
+        branchAggregates.reload();
+        countryCache.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        swiftRepository.deleteAll();
+        countryRepository.deleteAll();
+    }
+
+    @Test
+    void shouldServeCachedBodyGzippedOrAsIsWithETagPerCoding() throws Exception {
+        //when
+        MockHttpServletResponse identity = mockMvc.perform(get(SWIFT_CODE_URL + HQ_SWIFT_CODE))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse();
+        MockHttpServletResponse gzipped = mockMvc.perform(get(SWIFT_CODE_URL + HQ_SWIFT_CODE)
+                        .header(HttpHeaders.ACCEPT_ENCODING, GZIP))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, GZIP))
+                .andReturn().getResponse();
+        //then
+        JsonNode body = objectMapper.readTree(identity.getContentAsByteArray());
+        assertEquals(HQ_SWIFT_CODE, body.get("swiftCode").asText());
+        assertEquals(BRANCH_SWIFT_CODE, body.get("branches").get(0).get("swiftCode").asText());
+        assertArrayEquals(identity.getContentAsByteArray(), gunzip(gzipped.getContentAsByteArray()));
+        assertNotEquals(identity.getHeader(HttpHeaders.ETAG), gzipped.getHeader(HttpHeaders.ETAG));
+        mockMvc.perform(get(SWIFT_CODE_URL + HQ_SWIFT_CODE)
+                        .header(HttpHeaders.ACCEPT_ENCODING, GZIP)
+                        .header(HttpHeaders.IF_NONE_MATCH, identity.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, GZIP));
+        mockMvc.perform(get(SWIFT_CODE_URL + HQ_SWIFT_CODE)
+                        .header(HttpHeaders.ACCEPT_ENCODING, GZIP)
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipped.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, gzipped.getHeader(HttpHeaders.ETAG)))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldGiveEveryRepresentationItsOwnETag() throws Exception {
+        //given
+        String details = eTag(SWIFT_CODE_URL + HQ_SWIFT_CODE, null);
+        //when
+        List<String> eTags = List.of(
+                details,
+                eTag(SWIFT_CODE_URL + HQ_SWIFT_CODE + "?branches=count", null),
+                eTag(SWIFT_CODE_URL + HQ_SWIFT_CODE + "?fields=swiftCode", null),
+                eTag(SWIFT_CODE_URL + HQ_SWIFT_CODE, WireFormatConfig.CBOR_V1_VALUE),
+                eTag(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE, null),
+                eTag(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE + "?format=compact", null),
+                eTag(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE + "?limit=1", null));
+        //then
+        assertEquals(eTags.size(), Set.copyOf(eTags).size());
+        mockMvc.perform(get(SWIFT_CODE_URL + HQ_SWIFT_CODE + "?branches=count").header(HttpHeaders.IF_NONE_MATCH, details))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(SWIFT_CODE_URL + HQ_SWIFT_CODE).header(HttpHeaders.IF_NONE_MATCH, details))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldServeRebuiltCachedBodyAfterWrite() throws Exception {
+        //given
+        String eTag = eTag(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE, null);
+        //when
+        mockMvc.perform(delete(SWIFT_CODE_URL + BRANCH_SWIFT_CODE)).andExpect(status().isOk());
+        //then
+        MockHttpServletResponse response = mockMvc.perform(get(COUNTRY_SWIFT_CODE_URL + COUNTRY_ISO_DE)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        JsonNode swiftCodes = objectMapper.readTree(response.getContentAsByteArray()).get("swiftCodes");
+        assertEquals(1, swiftCodes.size());
+        assertEquals(HQ_SWIFT_CODE, swiftCodes.get(0).get("swiftCode").asText());
+    }
+
+    private String eTag(String url, String accept) throws Exception {
+        return mockMvc.perform(accept == null ? get(url) : get(url).header(HttpHeaders.ACCEPT, accept))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package remitly.task.swiftcode.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import remitly.task.swiftcode.dto.BranchSwiftCodeDTO;
+import remitly.task.swiftcode.dto.HeadquarterSwiftCodeDTO;
+import remitly.task.swiftcode.dto.HeadquarterSwiftCodeSummaryDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SwiftDirectorySnapshotTest {
+    private static final String HEADQUARTER_CODE = "DEUTDEFF500";
+    private static final String BRANCH_CODE_1 = "DEUTDEFFXXX";
+    private static final String BRANCH_CODE_2 = "DEUTDEFF001";
+    private static final String OTHER_CODE = "BREXPLPWXXX";
+    private static final String NEW_CODE = "DEUTDEFF002";
+    private static final String ADDRESS = "Address";
+    private static final String BANK_NAME = "Bank";
+
+    private Country germany;
+    private Country poland;
+    private Country spain;
+    private SwiftDirectorySnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        germany = new Country("Germany", "DE");
+        poland = new Country("Poland", "PL");
+        spain = new Country("Spain", "ES");
+        snapshot = SwiftDirectorySnapshot.build(List.of(germany, poland, spain), List.of(
+                new Swift(HEADQUARTER_CODE, ADDRESS, BANK_NAME, true, germany),
+                new Swift(BRANCH_CODE_1, null, BANK_NAME, false, germany),
+                new Swift(BRANCH_CODE_2, ADDRESS, BANK_NAME, false, poland),
+                new Swift(OTHER_CODE, ADDRESS, "Other bank", false, poland)));
+    }
+
+    @Test
+    void shouldFindCodeByExactKey() {
+        //given //when
+        BranchSwiftCodeDTO branch = (BranchSwiftCodeDTO) snapshot.findDetails(BRANCH_CODE_1).orElseThrow();
+        //then
+        assertEquals(BRANCH_CODE_1, branch.getSwiftCode());
+        assertNull(branch.getAddress());
+        assertEquals(BANK_NAME, branch.getBankName());
+        assertFalse(branch.isHeadquarter());
+        assertEquals("DE", branch.getCountryISO2());
+        assertEquals("Germany", branch.getCountryName());
+        assertTrue(snapshot.findDetails("DEUTDEFF999").isEmpty());
+        assertTrue(snapshot.findDetails("SHORT").isEmpty());
+    }
+
+    @Test
+    void shouldReturnBranchesOfHeadquarter() {
+        //given //when
+        HeadquarterSwiftCodeDTO details = (HeadquarterSwiftCodeDTO) snapshot.findDetails(HEADQUARTER_CODE).orElseThrow();
+        HeadquarterSwiftCodeSummaryDTO summary = (HeadquarterSwiftCodeSummaryDTO) snapshot.findSummary(HEADQUARTER_CODE).orElseThrow();
+        //then
+        assertEquals(List.of(BRANCH_CODE_2, BRANCH_CODE_1), codes(details.getBranches()));
+        assertEquals(List.of(BRANCH_CODE_2, BRANCH_CODE_1), codes(snapshot.findBranches(HEADQUARTER_CODE)));
+        assertEquals(2, summary.getBranchCount());
+        assertEquals("Germany", summary.getCountryName());
+        assertTrue(snapshot.findBranches(OTHER_CODE).isEmpty());
+        assertInstanceOf(BranchSwiftCodeDTO.class, snapshot.findSummary(OTHER_CODE).orElseThrow());
+    }
+
+    @Test
+    void shouldListCodesByIso2() {
+        //given //when //then
+        assertEquals(List.of(OTHER_CODE, BRANCH_CODE_2), codes(snapshot.findAllByCountry("pl")));
+        assertEquals(List.of(BRANCH_CODE_2), codes(snapshot.findAllByCountry("PL", OTHER_CODE, 10)));
+        assertEquals(List.of(OTHER_CODE), codes(snapshot.findAllByCountry("PL", null, 1)));
+        assertTrue(snapshot.findAllByCountry("ES").isEmpty());
+        assertTrue(snapshot.findAllByCountry("XY").isEmpty());
+        assertTrue(snapshot.findAllByCountry("--").isEmpty());
+    }
+
+    @Test
+    void shouldBuildNewSnapshotOnWriteLeavingOriginalUntouched() {
+        //given
+        Swift added = new Swift(NEW_CODE, ADDRESS, BANK_NAME, false, spain);
+        //when
+        SwiftDirectorySnapshot afterAdd = snapshot.withAdded(added);
+        SwiftDirectorySnapshot afterRemove = afterAdd.withRemoved(BRANCH_CODE_1);
+        //then
+        assertEquals(4, snapshot.size());
+        assertEquals(5, afterAdd.size());
+        assertEquals(4, afterRemove.size());
+        assertTrue(snapshot.findDetails(NEW_CODE).isEmpty());
+        assertEquals(3, afterAdd.findBranches(HEADQUARTER_CODE).size());
+        assertEquals(List.of(BRANCH_CODE_2, NEW_CODE), codes(afterRemove.findBranches(HEADQUARTER_CODE)));
+        assertEquals(1, afterRemove.findAllByCountry("ES").size());
+        assertSame(afterRemove, afterRemove.withRemoved("NONEXISTENT"));
+    }
+
+    @Test
+    void shouldApplyBatchOfChangesInSingleSnapshot() {
+        //given
+        Country france = new Country("France", "FR");
+        Swift added = new Swift(NEW_CODE, ADDRESS, BANK_NAME, false, spain);
+        Swift replaced = new Swift(OTHER_CODE, ADDRESS, "Renamed bank", false, poland);
+        Swift first = new Swift("AAAAFRPPXXX", "Rue 1", "New bank", true, france);
+        //when
+        SwiftDirectorySnapshot changed = snapshot.withChanges(List.of(added, replaced, first), List.of(BRANCH_CODE_1, "NONEXISTENT"));
+        //then
+        assertEquals(5, changed.size());
+        assertTrue(changed.findDetails(BRANCH_CODE_1).isEmpty());
+        assertEquals("Renamed bank", ((BranchSwiftCodeDTO) changed.findDetails(OTHER_CODE).orElseThrow()).getBankName());
+        assertEquals(List.of(BRANCH_CODE_2, NEW_CODE), codes(changed.findBranches(HEADQUARTER_CODE)));
+        assertEquals("France", ((HeadquarterSwiftCodeDTO) changed.findDetails("AAAAFRPPXXX").orElseThrow()).getCountryName());
+        assertEquals(List.of("AAAAFRPPXXX"), codes(changed.findAllByCountry("FR")));
+        assertEquals("Other bank", ((BranchSwiftCodeDTO) snapshot.findDetails(OTHER_CODE).orElseThrow()).getBankName());
+        assertSame(snapshot, snapshot.withChanges(List.of(), List.of()));
+    }
+
+    @Test
+    void shouldKeepStringsOfLiveRecordsAcrossManyReplacements() {
+        //given
+        SwiftDirectorySnapshot changed = snapshot;
+        //when
+        for (int i = 0; i < 200; i++) {
+            changed = changed.withAdded(new Swift(NEW_CODE, "Address " + i, "Bank " + i, false, spain));
+        }
+        //then
+        BranchSwiftCodeDTO branch = (BranchSwiftCodeDTO) changed.findDetails(NEW_CODE).orElseThrow();
+        assertEquals("Address 199", branch.getAddress());
+        assertEquals("Bank 199", branch.getBankName());
+        assertEquals("Other bank", ((BranchSwiftCodeDTO) changed.findDetails(OTHER_CODE).orElseThrow()).getBankName());
+        assertNull(((BranchSwiftCodeDTO) changed.findDetails(BRANCH_CODE_1).orElseThrow()).getAddress());
+        assertEquals(5, changed.size());
+    }
+
+    private static List<String> codes(List<SwiftCodeDTO> swiftCodes) {
+        return swiftCodes.stream().map(SwiftCodeDTO::getSwiftCode).toList();
+    }
+}
@@ -0,0 +1,82 @@
+package remitly.task.swiftcode.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SwiftSearchIndexTest {
+    private static final String SANTANDER_HQ = "AIPOPLP1XXX";
+    private static final String SANTANDER_BRANCH = "AIPOPLP1001";
+    private static final String ALIOR = "ALBPPLPWXXX";
+    private static final String DEUTSCHE = "DEUTDEFFXXX";
+    private static final String SANTANDER = "SANTANDER CONSUMER BANK";
+
+    private SwiftSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SwiftSearchIndex();
+        index.add(dto(SANTANDER_HQ, SANTANDER, "STRZEGOMSKA 42C WROCLAW"));
+        index.add(dto(SANTANDER_BRANCH, SANTANDER, "UL. MARSZALKOWSKA 1 WARSZAWA"));
+        index.add(dto(ALIOR, "ALIOR BANK", "WARSZAWA, MAZOWIECKIE"));
+        index.add(dto(DEUTSCHE, "Deutsche Bank", "Taunusanlage 12 Frankfurt"));
+    }
+
+    @Test
+    void shouldFindCodesByPrefixInCodeOrder() {
+        //when
+        List<SwiftCodeDTO> results = index.search("aipo", 10);
+        //then
+        assertEquals(List.of(SANTANDER_BRANCH, SANTANDER_HQ), codes(results));
+    }
+
+    @Test
+    void shouldFindBankNameAndAddressByWordPrefixes() {
+        //when //then
+        assertEquals(List.of(SANTANDER_BRANCH, SANTANDER_HQ), codes(index.search("santan", 10)));
+        assertEquals(List.of(SANTANDER_HQ), codes(index.search("Santander wroc", 10)));
+        assertEquals(List.of(DEUTSCHE), codes(index.search("frankf deut", 10)));
+        assertTrue(index.search("santander krakow", 10).isEmpty());
+    }
+
+    @Test
+    void shouldStopAtLimit() {
+        //when //then
+        assertEquals(1, index.search("bank", 1).size());
+        assertEquals(4, index.search("bank", 10).size());
+    }
+
+    @Test
+    void shouldApplyAddsAndRemovesIncrementally() {
+        //when
+        index.remove(SANTANDER_HQ);
+        index.add(dto(ALIOR, "ALIOR BANK", "KRAKOW"));
+        //then
+        assertEquals(List.of(SANTANDER_BRANCH), codes(index.search("santander", 10)));
+        assertEquals(List.of(ALIOR), codes(index.search("alior krakow", 10)));
+        assertTrue(index.search("mazowieckie", 10).isEmpty());
+        assertTrue(index.search("wroclaw", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void shouldSplitTextIntoSortedDistinctUpperCaseWords() {
+        //when //then
+        assertArrayEquals(new String[]{"12", "BANK", "WARSZAWA", "ŁÓDŹ"},
+                SwiftSearchIndex.words("bank  Warszawa, 12", "łódź bank", null));
+    }
+
+    private static SwiftCodeDTO dto(String swiftCode, String bankName, String address) {
+        return new SwiftCodeDTO(address, bankName, swiftCode.substring(4, 6), swiftCode.endsWith("XXX"), swiftCode);
+    }
+
+    private static List<String> codes(List<SwiftCodeDTO> results) {
+        return results.stream().map(SwiftCodeDTO::getSwiftCode).toList();
+    }
+}
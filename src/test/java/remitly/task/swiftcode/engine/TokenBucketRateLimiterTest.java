@@ -0,0 +1,91 @@
+package remitly.task.swiftcode.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenBucketRateLimiterTest {
+    private static final String CLIENT = "ip:10.0.0.1";
+    private static final String OTHER_CLIENT = "ip:10.0.0.2";
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(42 * SECOND);
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new TokenBucketRateLimiter(2, 3, Duration.ofMinutes(1), 100, clock::get);
+    }
+
+    @Test
+    void shouldAdmitBurstThenRejectWithWaitUntilNextPermit() {
+        //when //then
+        assertEquals(0, limiter.tryAcquire(CLIENT));
+        assertEquals(0, limiter.tryAcquire(CLIENT));
+        assertEquals(0, limiter.tryAcquire(CLIENT));
+        assertEquals(SECOND / 2, limiter.tryAcquire(CLIENT));
+        assertEquals(SECOND / 2, limiter.tryAcquire(CLIENT));
+    }
+
+    @Test
+    void shouldRefillAtConfiguredRate() {
+        //given
+        for (int i = 0; i < 3; i++) limiter.tryAcquire(CLIENT);
+        //when
+        clock.addAndGet(SECOND / 2);
+        //then
+        assertEquals(0, limiter.tryAcquire(CLIENT));
+        assertEquals(SECOND / 2, limiter.tryAcquire(CLIENT));
+        clock.addAndGet(10 * SECOND);
+        for (int i = 0; i < 3; i++) assertEquals(0, limiter.tryAcquire(CLIENT));
+        assertEquals(SECOND / 2, limiter.tryAcquire(CLIENT));
+    }
+
+    @Test
+    void shouldKeepSeparateBucketsPerClient() {
+        //given
+        for (int i = 0; i < 3; i++) limiter.tryAcquire(CLIENT);
+        //when //then
+        assertEquals(0, limiter.tryAcquire(OTHER_CLIENT));
+        assertEquals(2, limiter.trackedClients());
+    }
+
+    @Test
+    void shouldAdmitExactlyBurstUnderContention() throws Exception {
+        //given
+        TokenBucketRateLimiter contended = new TokenBucketRateLimiter(1, 500, Duration.ofMinutes(1), 100, clock::get);
+        AtomicInteger admitted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        //when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        if (contended.tryAcquire(CLIENT) == 0) admitted.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        }
+        //then
+        assertEquals(500, admitted.get());
+    }
+
+    @Test
+    void shouldRejectInvalidQuota() {
+        //when //then
+        assertThrows(IllegalArgumentException.class,
+                () -> new TokenBucketRateLimiter(0, 1, Duration.ofMinutes(1), 100, clock::get));
+    }
+}
@@ -0,0 +1,140 @@
+package remitly.task.swiftcode.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.IntFunction;
+
+/**
+ * Measures the hot {@link SwiftRepository}/{@link CountryRepository} query shapes against a 1M row
+ * H2 database, first on the original schema (no secondary indexes, {@code upper()} on iso2) and then
+ * with the indexes declared on the entities and normalized keys.
+ * <p>
+ * Not part of the regular build, run with:
+ * {@code mvn test -Dtest=SwiftIndexBenchmarkTest -Dbenchmark=true}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SwiftIndexBenchmarkTest {
+    private static final int ROWS = 1_000_000;
+    private static final int COUNTRIES = 250;
+    private static final int ITERATIONS = 50;
+
+    private static final String BRANCHES_SQL = "select s.swift_code from swifts s join countries c on c.id = s.country_id "
+            + "where s.base_swift_code = ? and s.is_headquarter = false";
+    private static final String COUNTRY_BEFORE_SQL = "select c.id from countries c where upper(c.iso2) = upper(?)";
+    private static final String COUNTRY_AFTER_SQL = "select c.id from countries c where c.iso2 = ?";
+    private static final String COUNTRY_CODES_BEFORE_SQL = "select s.swift_code from swifts s join countries c on c.id = s.country_id "
+            + "where upper(c.iso2) = upper(?)";
+    private static final String COUNTRY_CODES_AFTER_SQL = "select s.swift_code from swifts s join countries c on c.id = s.country_id "
+            + "where c.iso2 = ?";
+
+    @Test
+    void compareQueryLatencyBeforeAndAfterIndexes() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:swift-index-benchmark;DB_CLOSE_DELAY=-1", "sa", "")) {
+            createSchema(connection);
+            populate(connection);
+            System.out.println("=== " + ROWS + " rows, original schema ===");
+            measure(connection);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create index idx_swifts_base_code_hq on swifts (base_swift_code, is_headquarter)");
+                statement.execute("create index idx_swifts_country_id on swifts (country_id)");
+                statement.execute("create unique index idx_countries_iso2 on countries (iso2)");
+                statement.execute("analyze");
+            }
+            System.out.println("=== " + ROWS + " rows, indexed schema ===");
+            measure(connection);
+        }
+    }
+
+    private void measure(Connection connection) throws SQLException {
+        boolean indexed = hasIndexes(connection);
+        time(connection, "findBranchDTOsByBaseSwiftCode", BRANCHES_SQL, i -> base(i * 7919 % (ROWS / 10)));
+        time(connection, "findByIso2", indexed ? COUNTRY_AFTER_SQL : COUNTRY_BEFORE_SQL, i -> iso2(i % COUNTRIES));
+        time(connection, "findSwiftCodeDTOsByCountryIso2", indexed ? COUNTRY_CODES_AFTER_SQL : COUNTRY_CODES_BEFORE_SQL,
+                i -> iso2(i % COUNTRIES));
+    }
+
+    private void time(Connection connection, String name, String sql, IntFunction<String> parameter)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < ITERATIONS / 10; i++) run(statement, parameter.apply(i));
+            long start = System.nanoTime();
+            long rows = 0;
+            for (int i = 0; i < ITERATIONS; i++) rows += run(statement, parameter.apply(i));
+            double micros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+            System.out.printf("%-32s %10.1f us/query (%d rows/query)%n", name, micros, rows / ITERATIONS);
+        }
+    }
+
+    private long run(PreparedStatement statement, String parameter) throws SQLException {
+        statement.setString(1, parameter);
+        long rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) rows++;
+        }
+        return rows;
+    }
+
+    private boolean hasIndexes(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "select count(*) from information_schema.indexes where index_name = 'IDX_COUNTRIES_ISO2'")) {
+            resultSet.next();
+            return resultSet.getInt(1) > 0;
+        }
+    }
+
+    private void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table countries (id bigint generated by default as identity primary key, "
+                    + "name varchar(255), iso2 varchar(2))");
+            statement.execute("create table swifts (id bigint generated by default as identity primary key, "
+                    + "swift_code varchar(255) not null unique, base_swift_code varchar(255), address varchar(255), "
+                    + "bank_name varchar(255), is_headquarter boolean, country_id bigint not null references countries(id))");
+        }
+    }
+
+    private void populate(Connection connection) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement countries = connection.prepareStatement("insert into countries (id, name, iso2) values (?, ?, ?)");
+             PreparedStatement swifts = connection.prepareStatement("insert into swifts "
+                     + "(swift_code, base_swift_code, address, bank_name, is_headquarter, country_id) values (?, ?, ?, ?, ?, ?)")) {
+            for (int c = 0; c < COUNTRIES; c++) {
+                countries.setLong(1, c + 1);
+                countries.setString(2, "Country " + c);
+                countries.setString(3, iso2(c));
+                countries.addBatch();
+            }
+            countries.executeBatch();
+            for (int i = 0; i < ROWS; i++) {
+                String base = base(i / 10);
+                String suffix = i % 10 == 0 ? "XXX" : String.format("%03d", i % 10);
+                swifts.setString(1, base + suffix);
+                swifts.setString(2, base);
+                swifts.setString(3, "Address " + i);
+                swifts.setString(4, "Bank " + i / 10);
+                swifts.setBoolean(5, i % 10 != 0);
+                swifts.setLong(6, (i / 10) % COUNTRIES + 1);
+                swifts.addBatch();
+                if (i % 10_000 == 9_999) swifts.executeBatch();
+            }
+            swifts.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private static String base(int bank) {
+        return String.format("BK%06d", bank);
+    }
+
+    private static String iso2(int country) {
+        return "" + (char) ('A' + country / 26) + (char) ('A' + country % 26);
+    }
+}
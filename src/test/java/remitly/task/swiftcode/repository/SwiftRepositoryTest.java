@@ -0,0 +1,102 @@
+package remitly.task.swiftcode.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:swift-repository;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"})
+@ActiveProfiles("test")
+class SwiftRepositoryTest {
+    private static final int CODES_PER_COUNTRY = 500;
+    private static final String BANK_NAME = "Bank name";
+    private static final String ADDRESS = "Address";
+    private static final String HEADQUARTER_CODE = "BANKDE00XXX";
+
+    @Autowired
+    private SwiftRepository swiftRepository;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Country germany = new Country("Germany", "DE");
+        Country poland = new Country("Poland", "PL");
+        countryRepository.saveAll(List.of(germany, poland));
+        List<Swift> swifts = new ArrayList<>();
+        swifts.add(new Swift(HEADQUARTER_CODE, ADDRESS, BANK_NAME, true, germany));
+        for (int i = 0; i < CODES_PER_COUNTRY; i++) {
+            swifts.add(new Swift(String.format("BANKDE00%03d", i), ADDRESS, BANK_NAME, false, i % 2 == 0 ? germany : poland));
+            swifts.add(new Swift(String.format("OTHRPL%05d", i), ADDRESS, BANK_NAME, false, poland));
+        }
+        swiftRepository.saveAll(swifts);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        swiftRepository.deleteAll();
+        countryRepository.deleteAll();
+    }
+
+    @Test
+    void shouldListCountryCodesInSingleStatement() {
+        //when
+        List<SwiftCodeDTO> codes = swiftRepository.findSwiftCodeDTOsByCountryIso2("PL");
+        //then
+        assertEquals(CODES_PER_COUNTRY + CODES_PER_COUNTRY / 2, codes.size());
+        assertTrue(codes.stream().allMatch(code -> "PL".equals(code.getCountryISO2())));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldListBranchesInSingleStatement() {
+        //when
+        List<SwiftCodeDTO> branches = swiftRepository.findBranchDTOsByBaseSwiftCode("BANKDE00");
+        //then
+        assertEquals(CODES_PER_COUNTRY, branches.size());
+        assertFalse(branches.stream().anyMatch(SwiftCodeDTO::isHeadquarter));
+        assertEquals("PL", branches.get(1).getCountryISO2());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldFetchCodeWithCountryInSingleStatement() {
+        //when
+        Swift swift = swiftRepository.findBySwiftCode(HEADQUARTER_CODE).orElseThrow();
+        //then
+        assertEquals("DE", swift.getCountry().getIso2());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldLoadAllCodesWithCountriesInSingleStatement() {
+        //when
+        List<Swift> swifts = swiftRepository.findAll();
+        //then
+        assertEquals(2 * CODES_PER_COUNTRY + 1, swifts.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
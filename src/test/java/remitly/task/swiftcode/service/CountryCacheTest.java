@@ -0,0 +1,71 @@
+package remitly.task.swiftcode.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.repository.CountryRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CountryCacheTest {
+    private static final String COUNTRY_DE = "DE";
+    private static final String COUNTRY_PL = "PL";
+    private static final String COUNTRY_ZW = "ZW";
+    private static final String GERMANY = "Germany";
+    private static final String POLAND = "Poland";
+
+    private final CountryRepository countryRepository = mock(CountryRepository.class);
+    private CountryCache countryCache;
+
+    @BeforeEach
+    void setUp() {
+        countryCache = new CountryCache(countryRepository);
+        when(countryRepository.findAll()).thenReturn(List.of(
+                new Country(GERMANY, COUNTRY_DE), new Country("Zimbabwe", COUNTRY_ZW)));
+        countryCache.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void shouldFindPreloadedCountriesByIso2() {
+        //when //then
+        assertEquals(GERMANY, countryCache.find(COUNTRY_DE).orElseThrow().getName());
+        assertEquals(COUNTRY_ZW, countryCache.find(COUNTRY_ZW).orElseThrow().getIso2());
+        assertTrue(countryCache.find(COUNTRY_PL).isEmpty());
+        assertTrue(countryCache.find("de").isEmpty());
+        assertTrue(countryCache.find("--").isEmpty());
+        assertTrue(countryCache.find("DEU").isEmpty());
+        assertTrue(countryCache.find(null).isEmpty());
+    }
+
+    @Test
+    void shouldReloadWhenCodeOfUnknownCountryIsAdded() {
+        //given
+        when(countryRepository.findAll()).thenReturn(List.of(
+                new Country(GERMANY, COUNTRY_DE), new Country(POLAND, COUNTRY_PL)));
+        SwiftCodesChangedEvent event = new SwiftCodesChangedEvent(List.of(
+                new SwiftCodeChangedEvent(SwiftCodeChangedEvent.Type.ADDED, "DEUTDEFF500", "DEUTDEFF", COUNTRY_DE),
+                new SwiftCodeChangedEvent(SwiftCodeChangedEvent.Type.ADDED, "BREXPLPWXXX", "BREXPLPW", COUNTRY_PL)));
+        //when
+        countryCache.onSwiftCodesChanged(event);
+        //then
+        assertEquals(POLAND, countryCache.find(COUNTRY_PL).orElseThrow().getName());
+        assertTrue(countryCache.find(COUNTRY_ZW).isEmpty());
+        verify(countryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void shouldNotReloadForKnownCountriesOrDeletes() {
+        //when
+        countryCache.onSwiftCodeChanged(new SwiftCodeChangedEvent(SwiftCodeChangedEvent.Type.ADDED, "DEUTDEFF500", "DEUTDEFF", COUNTRY_DE));
+        countryCache.onSwiftCodeChanged(new SwiftCodeChangedEvent(SwiftCodeChangedEvent.Type.DELETED, "BREXPLPWXXX", "BREXPLPW", COUNTRY_PL));
+        //then
+        verify(countryRepository, times(1)).findAll();
+    }
+}
@@ -0,0 +1,79 @@
+package remitly.task.swiftcode.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.repository.SwiftRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HeadquarterBranchAggregatesTest {
+    private static final String BASE_DE = "DEUTDEFF";
+    private static final String BASE_PL = "BREXPLPW";
+    private static final String BRANCH_DE_1 = "DEUTDEFF500";
+    private static final String BRANCH_DE_2 = "DEUTDEFF501";
+    private static final String BRANCH_PL = "BREXPLPW001";
+
+    private final SwiftRepository swiftRepository = mock(SwiftRepository.class);
+    private HeadquarterBranchAggregates aggregates;
+
+    @BeforeEach
+    void setUp() {
+        aggregates = new HeadquarterBranchAggregates(swiftRepository, "jpa");
+        when(swiftRepository.findAllBranchDTOs()).thenReturn(List.of(
+                branch(BRANCH_DE_1), branch(BRANCH_PL), branch(BRANCH_DE_2)));
+        aggregates.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void shouldGroupBranchesByBaseSwiftCodeInLoadOrder() {
+        //when
+        HeadquarterBranchAggregates.Aggregate aggregate = aggregates.find(BASE_DE);
+        //then
+        assertEquals(2, aggregates.size());
+        assertEquals(2, aggregate.branchCount());
+        assertEquals(List.of(BRANCH_DE_1, BRANCH_DE_2), aggregate.branches().stream().map(SwiftCodeDTO::getSwiftCode).toList());
+        assertEquals(0, aggregates.find("NOEXPLPW").branchCount());
+    }
+
+    @Test
+    void shouldRebuildOnlyTouchedBaseSwiftCodes() {
+        //given
+        when(swiftRepository.findBranchDTOsByBaseSwiftCodeIn(List.of(BASE_DE, BASE_PL))).thenReturn(List.of(branch(BRANCH_DE_2)));
+        SwiftCodesChangedEvent event = new SwiftCodesChangedEvent(List.of(
+                new SwiftCodeChangedEvent(SwiftCodeChangedEvent.Type.DELETED, BRANCH_DE_1, BASE_DE, "DE"),
+                new SwiftCodeChangedEvent(SwiftCodeChangedEvent.Type.DELETED, BRANCH_PL, BASE_PL, "PL")));
+        //when
+        aggregates.onSwiftCodesChanged(event);
+        //then
+        assertEquals(List.of(BRANCH_DE_2), aggregates.find(BASE_DE).branches().stream().map(SwiftCodeDTO::getSwiftCode).toList());
+        assertEquals(0, aggregates.find(BASE_PL).branchCount());
+        assertEquals(1, aggregates.size());
+    }
+
+    @Test
+    void shouldStayEmptyInMemoryEngineMode() {
+        //given
+        SwiftRepository repository = mock(SwiftRepository.class);
+        HeadquarterBranchAggregates memoryMode = new HeadquarterBranchAggregates(repository, "memory");
+        //when
+        memoryMode.afterSingletonsInstantiated();
+        memoryMode.onSwiftCodeChanged(new SwiftCodeChangedEvent(SwiftCodeChangedEvent.Type.ADDED, BRANCH_DE_1, BASE_DE, "DE"));
+        //then
+        assertTrue(memoryMode.find(BASE_DE).branches().isEmpty());
+        verify(repository, never()).findAllBranchDTOs();
+        verify(repository, never()).findBranchDTOsByBaseSwiftCodeIn(anyCollection());
+    }
+
+    private static SwiftCodeDTO branch(String swiftCode) {
+        return new SwiftCodeDTO("Address", "Bank", swiftCode.substring(4, 6), false, swiftCode);
+    }
+}
@@ -0,0 +1,176 @@
+package remitly.task.swiftcode.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import remitly.task.swiftcode.dto.SwiftCodeBulkResponseDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.SwiftBatchRepository;
+import remitly.task.swiftcode.repository.SwiftCodeChangeRepository;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.utils.DataValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SwiftCodeBulkServiceTest {
+    private static final String NEW_CODE_1 = "DEUTDEFF600";
+    private static final String NEW_CODE_2 = "DEUTDEFF601";
+    private static final String EXISTING_CODE = "DEUTDEFF500";
+    private static final String MISSING_CODE = "DEUTDEFF999";
+    private static final String INVALID_CODE = "invalid";
+    private static final String COUNTRY_DE = "DE";
+    private static final String COUNTRY_XY = "XY";
+    private static final String ADDRESS = "Address";
+    private static final String BANK_NAME = "Bank";
+    private static final String INVALID_SWIFT_CODE_FORMAT_MSG = "Invalid swiftCode format. Expected 11 uppercase letters/numbers";
+    private static final String SWIFT_CODE_EXISTS_MSG = "SWIFT code already exists: ";
+    private static final String SWIFT_CODE_NOT_FOUND_MSG = "No records for provided swiftCode: ";
+    private static final String COUNTRY_NOT_FOUND_MSG = "No country found for code: ";
+    private static final String DUPLICATE_MSG = "Duplicate SWIFT code in request: ";
+
+    private final SwiftRepository swiftRepository = mock(SwiftRepository.class);
+    private final SwiftBatchRepository swiftBatchRepository = mock(SwiftBatchRepository.class);
+    private final CountryRepository countryRepository = mock(CountryRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private SwiftCodeBulkService service;
+    private Country germany;
+
+    @BeforeEach
+    void setUp() {
+        service = new SwiftCodeBulkService(swiftRepository, swiftBatchRepository, countryRepository, new DataValidator(),
+                eventPublisher, new SwiftCodeChangeLog(mock(SwiftCodeChangeRepository.class), swiftBatchRepository,
+                        new TransactionTemplate(mock(PlatformTransactionManager.class))));
+        germany = new Country("Germany", COUNTRY_DE);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldInsertValidEntriesInOneBatchAndReportRejectedOnes() {
+        //given
+        List<SwiftCodeDTO> dtos = List.of(
+                dto(NEW_CODE_1, COUNTRY_DE),
+                dto(INVALID_CODE, COUNTRY_DE),
+                dto(EXISTING_CODE, COUNTRY_DE),
+                dto(NEW_CODE_2, COUNTRY_XY),
+                dto(NEW_CODE_1, COUNTRY_DE));
+        when(countryRepository.findAllByIso2In(anyCollection())).thenReturn(List.of(germany));
+        when(swiftRepository.findExistingSwiftCodes(anyCollection())).thenReturn(List.of(EXISTING_CODE));
+        //when
+        SwiftCodeBulkResponseDTO response = service.addSwiftCodes(dtos);
+        //then
+        assertEquals(1, response.getApplied());
+        assertEquals(4, response.getFailed());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertNull(response.getResults().get(0).getMessage());
+        assertEquals(INVALID_SWIFT_CODE_FORMAT_MSG, response.getResults().get(1).getMessage());
+        assertEquals(SWIFT_CODE_EXISTS_MSG + EXISTING_CODE, response.getResults().get(2).getMessage());
+        assertEquals(COUNTRY_NOT_FOUND_MSG + COUNTRY_XY, response.getResults().get(3).getMessage());
+        assertEquals(DUPLICATE_MSG + NEW_CODE_1, response.getResults().get(4).getMessage());
+        ArgumentCaptor<List<Swift>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(swiftBatchRepository).insertAll(inserted.capture());
+        assertEquals(List.of(NEW_CODE_1), inserted.getValue().stream().map(Swift::getSwiftCode).toList());
+        verify(countryRepository, times(1)).findAllByIso2In(anyCollection());
+        verify(swiftRepository, times(1)).findExistingSwiftCodes(anyCollection());
+        verify(eventPublisher).publishEvent(any(SwiftCodesChangedEvent.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReportCodesWrittenConcurrentlyAsPerEntryErrors() {
+        //given
+        List<SwiftCodeDTO> dtos = List.of(dto(NEW_CODE_1, COUNTRY_DE), dto(NEW_CODE_2, COUNTRY_DE));
+        when(countryRepository.findAllByIso2In(anyCollection())).thenReturn(List.of(germany));
+        when(swiftRepository.findExistingSwiftCodes(anyCollection())).thenReturn(List.of(), List.of(NEW_CODE_2));
+        doThrow(new DataIntegrityViolationException("Unique index violation")).doNothing()
+                .when(swiftBatchRepository).insertAll(any());
+        ArgumentCaptor<List<Swift>> inserted = ArgumentCaptor.forClass(List.class);
+        //when
+        SwiftCodeBulkResponseDTO response = service.addSwiftCodes(dtos);
+        //then
+        assertEquals(1, response.getApplied());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertEquals(SWIFT_CODE_EXISTS_MSG + NEW_CODE_2, response.getResults().get(1).getMessage());
+        verify(swiftBatchRepository, times(2)).insertAll(inserted.capture());
+        assertEquals(List.of(NEW_CODE_1), inserted.getValue().stream().map(Swift::getSwiftCode).toList());
+        verify(eventPublisher, times(1)).publishEvent(any(SwiftCodesChangedEvent.class));
+    }
+
+    @Test
+    void shouldFailEntriesThatConflictOnEveryAttempt() {
+        //given
+        when(countryRepository.findAllByIso2In(anyCollection())).thenReturn(List.of(germany));
+        when(swiftRepository.findExistingSwiftCodes(anyCollection())).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("Unique index violation")).when(swiftBatchRepository).insertAll(any());
+        //when
+        SwiftCodeBulkResponseDTO response = service.addSwiftCodes(List.of(dto(NEW_CODE_1, COUNTRY_DE)));
+        //then
+        assertEquals(0, response.getApplied());
+        assertEquals("SWIFT code conflicts with a concurrent write: " + NEW_CODE_1, response.getResults().get(0).getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldDeleteExistingCodesInOneBatch() {
+        //given
+        when(swiftRepository.findAllBySwiftCodeIn(anyCollection()))
+                .thenReturn(List.of(new Swift(EXISTING_CODE, ADDRESS, BANK_NAME, true, germany)));
+        //when
+        SwiftCodeBulkResponseDTO response = service.deleteSwiftCodes(List.of(EXISTING_CODE, MISSING_CODE, INVALID_CODE));
+        //then
+        assertEquals(1, response.getApplied());
+        assertEquals(2, response.getFailed());
+        assertEquals(SWIFT_CODE_NOT_FOUND_MSG + MISSING_CODE, response.getResults().get(1).getMessage());
+        assertEquals(INVALID_SWIFT_CODE_FORMAT_MSG, response.getResults().get(2).getMessage());
+        verify(swiftBatchRepository).deleteAll(List.of(EXISTING_CODE));
+        verify(eventPublisher).publishEvent(any(SwiftCodesChangedEvent.class));
+    }
+
+    @Test
+    void shouldNotWriteWhenNoEntryIsAccepted() {
+        //given
+        when(swiftRepository.findAllBySwiftCodeIn(anyCollection())).thenReturn(List.of());
+        //when
+        SwiftCodeBulkResponseDTO response = service.deleteSwiftCodes(List.of(MISSING_CODE));
+        //then
+        assertEquals(0, response.getApplied());
+        verify(swiftBatchRepository, never()).deleteAll(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldThrowWhenBatchIsEmptyOrTooLarge() {
+        //given
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= SwiftCodeBulkService.MAX_BULK_SIZE; i++) tooMany.add(EXISTING_CODE);
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> service.addSwiftCodes(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> service.deleteSwiftCodes(tooMany));
+        verifyNoInteractions(swiftBatchRepository);
+    }
+
+    private static SwiftCodeDTO dto(String swiftCode, String countryISO2) {
+        return new SwiftCodeDTO(ADDRESS, BANK_NAME, countryISO2, false, swiftCode);
+    }
+}
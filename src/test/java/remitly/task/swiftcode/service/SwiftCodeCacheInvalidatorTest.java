@@ -0,0 +1,93 @@
+package remitly.task.swiftcode.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import remitly.task.swiftcode.config.CacheConfig;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static remitly.task.swiftcode.config.CacheConfig.COUNTRY_SWIFT_CODES_CACHE;
+import static remitly.task.swiftcode.config.CacheConfig.SWIFT_CODE_DETAILS_CACHE;
+
+class SwiftCodeCacheInvalidatorTest {
+    private static final String HEADQUARTER_CODE = "DEUTDEFF500";
+    private static final String BRANCH_CODE = "DEUTDEFFXXX";
+    private static final String OTHER_CODE = "BREXPLPWXXX";
+    private static final String COUNTRY_DE = "DE";
+    private static final String COUNTRY_PL = "PL";
+
+    private final SwiftCodeVersionTracker versionTracker = new SwiftCodeVersionTracker();
+    private Cache details;
+    private Cache countries;
+    private SwiftCodeCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = new CacheConfig().cacheManager(100, 10, Duration.ofMinutes(1));
+        details = cacheManager.getCache(SWIFT_CODE_DETAILS_CACHE);
+        countries = cacheManager.getCache(COUNTRY_SWIFT_CODES_CACHE);
+        details.put(detailsKey(HEADQUARTER_CODE), "hq");
+        details.put(detailsKey(BRANCH_CODE), "branch");
+        details.put(detailsKey(OTHER_CODE), "other");
+        countries.put(countryKey(COUNTRY_DE), "de");
+        countries.put(countryKey(COUNTRY_PL), "pl");
+        invalidator = new SwiftCodeCacheInvalidator(cacheManager);
+    }
+
+    @Test
+    void shouldEvictCodesSharingBaseCodeAndTheirCountry() {
+        //given
+        SwiftCodeChangedEvent event = new SwiftCodeChangedEvent(
+                SwiftCodeChangedEvent.Type.ADDED, "DEUTDEFF501", "DEUTDEFF", COUNTRY_DE);
+        //when
+        invalidator.onSwiftCodeChanged(event);
+        //then
+        assertNull(details.get(detailsKey(HEADQUARTER_CODE)));
+        assertNull(details.get(detailsKey(BRANCH_CODE)));
+        assertNull(countries.get(countryKey(COUNTRY_DE)));
+        assertNotNull(details.get(detailsKey(OTHER_CODE)));
+        assertNotNull(countries.get(countryKey(COUNTRY_PL)));
+    }
+
+    @Test
+    void shouldEvictDeletedCode() {
+        //given
+        SwiftCodeChangedEvent event = new SwiftCodeChangedEvent(
+                SwiftCodeChangedEvent.Type.DELETED, OTHER_CODE, "BREXPLPW", COUNTRY_PL);
+        //when
+        invalidator.onSwiftCodeChanged(event);
+        //then
+        assertNull(details.get(detailsKey(OTHER_CODE)));
+        assertNull(countries.get(countryKey(COUNTRY_PL)));
+        assertNotNull(details.get(detailsKey(HEADQUARTER_CODE)));
+    }
+
+    @Test
+    void shouldEvictEveryCodeOfBulkChange() {
+        //given
+        SwiftCodesChangedEvent event = new SwiftCodesChangedEvent(List.of(
+                new SwiftCodeChangedEvent(SwiftCodeChangedEvent.Type.ADDED, "DEUTDEFF501", "DEUTDEFF", COUNTRY_DE),
+                new SwiftCodeChangedEvent(SwiftCodeChangedEvent.Type.ADDED, "BREXPLPW001", "BREXPLPW", COUNTRY_PL)));
+        //when
+        invalidator.onSwiftCodesChanged(event);
+        //then
+        assertNull(details.get(detailsKey(HEADQUARTER_CODE)));
+        assertNull(details.get(detailsKey(BRANCH_CODE)));
+        assertNull(details.get(detailsKey(OTHER_CODE)));
+        assertNull(countries.get(countryKey(COUNTRY_DE)));
+        assertNull(countries.get(countryKey(COUNTRY_PL)));
+    }
+
+    private String detailsKey(String swiftCode) {
+        return versionTracker.detailsCacheKey(swiftCode);
+    }
+
+    private String countryKey(String countryISO2) {
+        return versionTracker.countryCacheKey(countryISO2);
+    }
+}
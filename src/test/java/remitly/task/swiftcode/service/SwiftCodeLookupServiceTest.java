@@ -0,0 +1,129 @@
+package remitly.task.swiftcode.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import remitly.task.swiftcode.config.CacheConfig;
+import remitly.task.swiftcode.dto.HeadquarterSwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeLookupResultDTO;
+import remitly.task.swiftcode.engine.SwiftDirectoryEngine;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.utils.Chunks;
+import remitly.task.swiftcode.utils.DataValidator;
+import remitly.task.swiftcode.utils.SwiftCodeDetailsMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static remitly.task.swiftcode.config.CacheConfig.SWIFT_CODE_DETAILS_CACHE;
+
+class SwiftCodeLookupServiceTest {
+    private static final String HEADQUARTER_CODE = "DEUTDEFF500";
+    private static final String BRANCH_CODE = "DEUTDEFF001";
+    private static final String MISSING_CODE = "DEUTDEFF999";
+    private static final String INVALID_CODE = "invalid";
+    private static final String ADDRESS = "Address";
+    private static final String BANK_NAME = "Bank";
+    private static final String INVALID_SWIFT_CODE_FORMAT_MSG = "Invalid swiftCode format. Expected 11 uppercase letters/numbers";
+    private static final String SWIFT_CODE_NOT_FOUND_MSG = "No records for provided swiftCode: ";
+
+    private final SwiftRepository swiftRepository = mock(SwiftRepository.class);
+    private final SwiftDirectoryEngine directoryEngine = mock(SwiftDirectoryEngine.class);
+    private final HeadquarterBranchAggregates branchAggregates = mock(HeadquarterBranchAggregates.class);
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<CacheManager> cacheManagerProvider = mock(ObjectProvider.class);
+    private final SwiftCodeVersionTracker versionTracker = new SwiftCodeVersionTracker();
+    private SwiftCodeLookupService service;
+    private Swift headquarter;
+    private Swift branch;
+
+    @BeforeEach
+    void setUp() {
+        service = new SwiftCodeLookupService(swiftRepository, new DataValidator(), new SwiftCodeDetailsMapper(),
+                directoryEngine, cacheManagerProvider, branchAggregates, versionTracker);
+        Country germany = new Country("Germany", "DE");
+        headquarter = new Swift(HEADQUARTER_CODE, ADDRESS, BANK_NAME, true, germany);
+        branch = new Swift(BRANCH_CODE, ADDRESS, BANK_NAME, false, germany);
+    }
+
+    @Test
+    void shouldResolveCodesWithOneQueryAndBranchesFromAggregates() {
+        //given
+        when(swiftRepository.findAllBySwiftCodeIn(anyCollection())).thenReturn(List.of(headquarter, branch));
+        when(branchAggregates.find("DEUTDEFF")).thenReturn(new HeadquarterBranchAggregates.Aggregate(
+                List.of(new SwiftCodeDTO(ADDRESS, BANK_NAME, "DE", false, BRANCH_CODE))));
+        //when
+        List<SwiftCodeLookupResultDTO> results = service.lookup(
+                List.of(HEADQUARTER_CODE, INVALID_CODE, BRANCH_CODE, MISSING_CODE, HEADQUARTER_CODE));
+        //then
+        assertEquals(5, results.size());
+        HeadquarterSwiftCodeDTO details = assertInstanceOf(HeadquarterSwiftCodeDTO.class, results.get(0).getDetails());
+        assertEquals(BRANCH_CODE, details.getBranches().get(0).getSwiftCode());
+        assertEquals(INVALID_SWIFT_CODE_FORMAT_MSG, results.get(1).getMessage());
+        assertTrue(results.get(2).isFound());
+        assertFalse(results.get(3).isFound());
+        assertEquals(SWIFT_CODE_NOT_FOUND_MSG + MISSING_CODE, results.get(3).getMessage());
+        assertEquals(results.get(0), results.get(4));
+        verify(swiftRepository).findAllBySwiftCodeIn(List.of(HEADQUARTER_CODE, BRANCH_CODE, MISSING_CODE));
+        verify(swiftRepository, never()).findBranchDTOsByBaseSwiftCodeIn(anyCollection());
+    }
+
+    @Test
+    void shouldSplitLargeBatchesIntoChunkedQueries() {
+        //given
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < SwiftCodeLookupService.MAX_LOOKUP_SIZE; i++) codes.add(String.format("DE%02dDEFF%03d", i / 1000, i % 1000));
+        when(swiftRepository.findAllBySwiftCodeIn(anyCollection())).thenReturn(List.of());
+        //when
+        List<SwiftCodeLookupResultDTO> results = service.lookup(codes);
+        //then
+        assertEquals(SwiftCodeLookupService.MAX_LOOKUP_SIZE, results.size());
+        verify(swiftRepository, times(SwiftCodeLookupService.MAX_LOOKUP_SIZE / Chunks.QUERY_CHUNK_SIZE))
+                .findAllBySwiftCodeIn(anyCollection());
+        verify(swiftRepository, never()).findBranchDTOsByBaseSwiftCodeIn(anyCollection());
+    }
+
+    @Test
+    void shouldServeCachedCodesAndCacheResolvedOnes() {
+        //given
+        CacheManager cacheManager = new CacheConfig().cacheManager(100, 10, Duration.ofMinutes(1));
+        cacheManager.getCache(SWIFT_CODE_DETAILS_CACHE).put(versionTracker.detailsCacheKey(HEADQUARTER_CODE), "cached");
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        when(swiftRepository.findAllBySwiftCodeIn(List.of(BRANCH_CODE))).thenReturn(List.of(branch));
+        //when
+        List<SwiftCodeLookupResultDTO> results = service.lookup(List.of(HEADQUARTER_CODE, BRANCH_CODE));
+        //then
+        assertEquals("cached", results.get(0).getDetails());
+        assertNotNull(cacheManager.getCache(SWIFT_CODE_DETAILS_CACHE).get(versionTracker.detailsCacheKey(BRANCH_CODE)));
+        verify(swiftRepository).findAllBySwiftCodeIn(List.of(BRANCH_CODE));
+    }
+
+    @Test
+    void shouldThrowWhenBatchIsEmptyOrTooLarge() {
+        //given
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= SwiftCodeLookupService.MAX_LOOKUP_SIZE; i++) tooMany.add(HEADQUARTER_CODE);
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> service.lookup(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> service.lookup(tooMany));
+        verify(swiftRepository, never()).findAllBySwiftCodeIn(any());
+    }
+}
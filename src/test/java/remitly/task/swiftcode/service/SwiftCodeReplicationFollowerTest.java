@@ -0,0 +1,153 @@
+package remitly.task.swiftcode.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+import remitly.task.swiftcode.dto.SwiftCodeChangeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.ReplicationCursor;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.ReplicationCursorRepository;
+import remitly.task.swiftcode.repository.SwiftBatchRepository;
+import remitly.task.swiftcode.repository.SwiftCodeChangeRepository;
+import remitly.task.swiftcode.repository.SwiftRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SwiftCodeReplicationFollowerTest {
+    private static final String LEADER_URL = "http://leader:8080";
+    private static final String NEW_CODE = "DEUTDEFF600";
+    private static final String UPDATED_CODE = "DEUTDEFF500";
+    private static final String DELETED_CODE = "DEUTDEFF501";
+    private static final String TRANSIENT_CODE = "DEUTDEFF502";
+    private static final String COUNTRY_DE = "DE";
+    private static final String COUNTRY_PL = "PL";
+    private static final String ADDRESS = "Address";
+    private static final String BANK_NAME = "Bank";
+
+    private final SwiftRepository swiftRepository = mock(SwiftRepository.class);
+    private final CountryRepository countryRepository = mock(CountryRepository.class);
+    private final SwiftBatchRepository swiftBatchRepository = mock(SwiftBatchRepository.class);
+    private final ReplicationCursorRepository cursorRepository = mock(ReplicationCursorRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private SwiftCodeReplicationFollower follower;
+
+    @BeforeEach
+    void setUp() {
+        SwiftCodeChangeLog changeLog = new SwiftCodeChangeLog(mock(SwiftCodeChangeRepository.class), swiftBatchRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        follower = new SwiftCodeReplicationFollower(swiftRepository, countryRepository, swiftBatchRepository,
+                cursorRepository, changeLog, eventPublisher, RestClient.builder(), LEADER_URL, "", 1000, Duration.ofSeconds(5));
+        when(countryRepository.findAll()).thenReturn(List.of(new Country("Germany", COUNTRY_DE)));
+        when(countryRepository.save(any(Country.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldApplyLastChangePerCodeAndAdvanceCursor() {
+        //given
+        when(swiftRepository.findSwiftCodeDTOsBySwiftCodeIn(anyCollection())).thenReturn(List.of(
+                stored(UPDATED_CODE), stored(DELETED_CODE)));
+        List<SwiftCodeChangeDTO> page = List.of(
+                added(11, NEW_CODE, COUNTRY_DE),
+                added(12, TRANSIENT_CODE, COUNTRY_DE),
+                added(13, UPDATED_CODE, COUNTRY_PL),
+                deleted(14, DELETED_CODE),
+                deleted(15, TRANSIENT_CODE));
+        ArgumentCaptor<List<Swift>> inserted = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<ReplicationCursor> cursor = ArgumentCaptor.forClass(ReplicationCursor.class);
+        //when
+        int applied = follower.apply(10, page);
+        //then
+        assertEquals(4, applied);
+        verify(swiftBatchRepository).deleteAll(List.of(UPDATED_CODE, DELETED_CODE));
+        verify(swiftBatchRepository).insertAll(inserted.capture());
+        assertEquals(List.of(NEW_CODE, UPDATED_CODE), inserted.getValue().stream().map(Swift::getSwiftCode).toList());
+        assertEquals(COUNTRY_PL, inserted.getValue().get(1).getCountry().getIso2());
+        verify(swiftBatchRepository).insertChanges(any());
+        verify(cursorRepository).save(cursor.capture());
+        assertEquals(LEADER_URL, cursor.getValue().getSource());
+        assertEquals(15, cursor.getValue().getSequence());
+    }
+
+    @Test
+    void shouldPublishDeletesOfPreviousRowsAndAddsOfNewOnes() {
+        //given
+        when(swiftRepository.findSwiftCodeDTOsBySwiftCodeIn(anyCollection())).thenReturn(List.of(stored(UPDATED_CODE)));
+        ArgumentCaptor<SwiftCodesChangedEvent> event = ArgumentCaptor.forClass(SwiftCodesChangedEvent.class);
+        //when
+        follower.apply(0, List.of(added(1, UPDATED_CODE, COUNTRY_PL)));
+        //then
+        verify(eventPublisher).publishEvent(event.capture());
+        List<SwiftCodeChangedEvent> changes = event.getValue().getChanges();
+        assertEquals(2, changes.size());
+        assertEquals(SwiftCodeChangedEvent.Type.DELETED, changes.get(0).getType());
+        assertEquals(COUNTRY_DE, changes.get(0).getCountryISO2());
+        assertEquals(SwiftCodeChangedEvent.Type.ADDED, changes.get(1).getType());
+        assertEquals(COUNTRY_PL, changes.get(1).getCountryISO2());
+    }
+
+    @Test
+    void shouldSkipChangesAlreadyApplied() {
+        //when
+        int applied = follower.apply(20, List.of(added(19, NEW_CODE, COUNTRY_DE), added(20, UPDATED_CODE, COUNTRY_DE)));
+        //then
+        assertEquals(0, applied);
+        verify(swiftBatchRepository, never()).insertAll(any());
+        verify(cursorRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldSkipChangesAppliedSinceCursorWasRead() {
+        //given
+        when(cursorRepository.findById(LEADER_URL)).thenReturn(Optional.of(new ReplicationCursor(LEADER_URL, 20)));
+        //when
+        int applied = follower.apply(10, List.of(added(19, NEW_CODE, COUNTRY_DE), added(21, UPDATED_CODE, COUNTRY_DE)));
+        //then
+        assertEquals(1, applied);
+        verify(swiftRepository).findSwiftCodeDTOsBySwiftCodeIn(List.of(UPDATED_CODE));
+    }
+
+    private static SwiftCodeDTO stored(String swiftCode) {
+        return new SwiftCodeDTO(ADDRESS, BANK_NAME, COUNTRY_DE, true, swiftCode);
+    }
+
+    private static SwiftCodeChangeDTO added(long sequence, String swiftCode, String countryISO2) {
+        return SwiftCodeChangeDTO.builder()
+                .sequence(sequence)
+                .type("ADDED")
+                .swiftCode(swiftCode)
+                .address(ADDRESS)
+                .bankName(BANK_NAME)
+                .countryISO2(countryISO2)
+                .countryName(countryISO2)
+                .isHeadquarter(true)
+                .build();
+    }
+
+    private static SwiftCodeChangeDTO deleted(long sequence, String swiftCode) {
+        return SwiftCodeChangeDTO.builder()
+                .sequence(sequence)
+                .type("DELETED")
+                .swiftCode(swiftCode)
+                .countryISO2(COUNTRY_DE)
+                .build();
+    }
+}
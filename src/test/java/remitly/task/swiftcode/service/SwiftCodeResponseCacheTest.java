@@ -0,0 +1,96 @@
+package remitly.task.swiftcode.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import remitly.task.swiftcode.dto.CountrySwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SwiftCodeResponseCacheTest {
+    private static final String HEADQUARTER_CODE = "DEUTDEFFXXX";
+    private static final String OTHER_CODE = "BREXPLPWXXX";
+    private static final String INVALID_CODE = "invalid";
+    private static final String COUNTRY_DE = "DE";
+    private static final String ADDRESS = "Address";
+    private static final String BANK_NAME = "Bank";
+    private static final int GZIP_MIN_SIZE = 1024;
+
+    private final SwiftCodeService swiftCodeService = mock(SwiftCodeService.class);
+    private final SwiftCodeVersionTracker versionTracker = new SwiftCodeVersionTracker();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SwiftCodeResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SwiftCodeResponseCache(swiftCodeService, versionTracker, objectMapper, 1 << 20, GZIP_MIN_SIZE);
+    }
+
+    @Test
+    void shouldServeSameBytesUntilBaseSwiftCodeChanges() throws Exception {
+        //given
+        SwiftCodeDTO details = new SwiftCodeDTO(ADDRESS, BANK_NAME, COUNTRY_DE, true, HEADQUARTER_CODE);
+        when(swiftCodeService.readSwiftCodeDetails(HEADQUARTER_CODE)).thenReturn(details);
+        when(swiftCodeService.readSwiftCodeDetails(OTHER_CODE)).thenReturn(details);
+        //when
+        SwiftCodeResponseCache.EncodedResponse first = cache.getSwiftCodeDetails(HEADQUARTER_CODE);
+        SwiftCodeResponseCache.EncodedResponse second = cache.getSwiftCodeDetails(HEADQUARTER_CODE);
+        cache.getSwiftCodeDetails(OTHER_CODE);
+        versionTracker.onSwiftCodeChanged(new SwiftCodeChangedEvent(
+                SwiftCodeChangedEvent.Type.ADDED, "DEUTDEFF500", "DEUTDEFF", COUNTRY_DE));
+        cache.getSwiftCodeDetails(HEADQUARTER_CODE);
+        cache.getSwiftCodeDetails(OTHER_CODE);
+        //then
+        assertSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(details), first.json());
+        assertNull(first.gzip());
+        verify(swiftCodeService, times(2)).readSwiftCodeDetails(HEADQUARTER_CODE);
+        verify(swiftCodeService, times(1)).readSwiftCodeDetails(OTHER_CODE);
+        verify(swiftCodeService, never()).getSwiftCodeDetails(any());
+    }
+
+    @Test
+    void shouldKeepGzipCopyOfLargeBodies() throws Exception {
+        //given
+        List<SwiftCodeDTO> swiftCodes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            swiftCodes.add(new SwiftCodeDTO(ADDRESS, BANK_NAME, COUNTRY_DE, false, String.format("DEUTDEFF%03d", i)));
+        }
+        CountrySwiftCodeDTO country = CountrySwiftCodeDTO.builder()
+                .countryISO2(COUNTRY_DE).countryName("Germany").swiftCodes(swiftCodes).build();
+        when(swiftCodeService.readSwiftCodesByCountry(COUNTRY_DE)).thenReturn(country);
+        //when
+        SwiftCodeResponseCache.EncodedResponse response = cache.getSwiftCodesByCountry(COUNTRY_DE);
+        //then
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.gzip()))) {
+            assertArrayEquals(response.json(), gzip.readAllBytes());
+        }
+        assertEquals(objectMapper.writeValueAsString(country), new String(response.json()));
+    }
+
+    @Test
+    void shouldNotCacheFailedLookups() {
+        //given
+        when(swiftCodeService.readSwiftCodeDetails(INVALID_CODE)).thenThrow(new IllegalArgumentException("invalid"));
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> cache.getSwiftCodeDetails(INVALID_CODE));
+        assertThrows(IllegalArgumentException.class, () -> cache.getSwiftCodeDetails(INVALID_CODE));
+        verify(swiftCodeService, times(2)).readSwiftCodeDetails(INVALID_CODE);
+    }
+}
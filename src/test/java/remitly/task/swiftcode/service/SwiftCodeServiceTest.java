@@ -2,13 +2,22 @@ package remitly.task.swiftcode.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import remitly.task.swiftcode.dto.BranchSwiftCodeDTO;
 import remitly.task.swiftcode.dto.CountrySwiftCodeDTO;
+import remitly.task.swiftcode.dto.CountrySwiftCodePageDTO;
 import remitly.task.swiftcode.dto.HeadquarterSwiftCodeDTO;
+import remitly.task.swiftcode.dto.HeadquarterSwiftCodeSummaryDTO;
 import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.engine.SwiftDirectoryEngine;
+import remitly.task.swiftcode.engine.SwiftDirectorySnapshot;
 import remitly.task.swiftcode.model.Country;
 import remitly.task.swiftcode.model.Swift;
-import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.SwiftBatchRepository;
+import remitly.task.swiftcode.repository.SwiftCodeChangeRepository;
 import remitly.task.swiftcode.repository.SwiftRepository;
 import remitly.task.swiftcode.utils.DataValidator;
 import remitly.task.swiftcode.utils.SwiftCodeDetailsMapper;
@@ -23,6 +32,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,9 +47,12 @@ class SwiftCodeServiceTest {
     private static final String COUNTRY_NOT_FOUND_MSG = "No country found for code: ";
 
     private final SwiftRepository swiftRepository = mock(SwiftRepository.class);
-    private final CountryRepository countryRepository = mock(CountryRepository.class);
+    private final CountryCache countryCache = mock(CountryCache.class);
     private final DataValidator validator = mock(DataValidator.class);
     private final SwiftCodeDetailsMapper mapper = mock(SwiftCodeDetailsMapper.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SwiftDirectoryEngine directoryEngine = mock(SwiftDirectoryEngine.class);
+    private final HeadquarterBranchAggregates branchAggregates = mock(HeadquarterBranchAggregates.class);
     private SwiftCodeService service;
 
     private Swift swift;
@@ -46,7 +60,9 @@ class SwiftCodeServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new SwiftCodeService(swiftRepository, countryRepository, validator, mapper);
+        service = new SwiftCodeService(swiftRepository, countryCache, validator, mapper, eventPublisher, directoryEngine,
+                new SwiftCodeChangeLog(mock(SwiftCodeChangeRepository.class), mock(SwiftBatchRepository.class),
+                        new TransactionTemplate(mock(PlatformTransactionManager.class))), branchAggregates);
         country = new Country("United States", COUNTRY_CODE);
         swift = new Swift(SWIFT_CODE, ADDRESS, BANK_NAME, true, country);
     }
@@ -68,9 +84,9 @@ class SwiftCodeServiceTest {
     @Test
     void shouldReturnHeadquarterDtoWhenSwiftIsHeadquarter() {
         //given
-        List<Swift> branches = List.of(new Swift("BRANCH12345", "branch addr", "branch bank", false, country));
+        List<SwiftCodeDTO> branches = List.of(new SwiftCodeDTO("branch addr", "branch bank", COUNTRY_CODE, false, "BRANCH12345"));
         when(swiftRepository.findBySwiftCode(SWIFT_CODE)).thenReturn(Optional.of(swift));
-        when(swiftRepository.findAllByBaseSwiftCodeAndIsHeadquarterFalse(swift.getBaseSwiftCode())).thenReturn(branches);
+        when(branchAggregates.find(swift.getBaseSwiftCode())).thenReturn(new HeadquarterBranchAggregates.Aggregate(branches));
         HeadquarterSwiftCodeDTO hqDto = HeadquarterSwiftCodeDTO.builder().swiftCode(SWIFT_CODE).branches(List.of()).isHeadquarter(true).build();
         when(mapper.mapToHeadquarterSwiftCodeDTO(swift, branches)).thenReturn(hqDto);
         //when
@@ -80,6 +96,21 @@ class SwiftCodeServiceTest {
         assertEquals(SWIFT_CODE, ((HeadquarterSwiftCodeDTO) result).getSwiftCode());
     }
 
+    @Test
+    void shouldReturnBranchCountOnlyInHeadquarterSummary() {
+        //given
+        List<SwiftCodeDTO> branches = List.of(new SwiftCodeDTO("branch addr", "branch bank", COUNTRY_CODE, false, "BRANCH12345"));
+        when(swiftRepository.findBySwiftCode(SWIFT_CODE)).thenReturn(Optional.of(swift));
+        when(branchAggregates.find(swift.getBaseSwiftCode())).thenReturn(new HeadquarterBranchAggregates.Aggregate(branches));
+        HeadquarterSwiftCodeSummaryDTO summaryDto = HeadquarterSwiftCodeSummaryDTO.builder().swiftCode(SWIFT_CODE).branchCount(1).build();
+        when(mapper.mapToHeadquarterSwiftCodeSummaryDTO(swift, 1)).thenReturn(summaryDto);
+        //when
+        Object result = service.getSwiftCodeSummary(SWIFT_CODE);
+        //then
+        assertEquals(summaryDto, result);
+        verify(swiftRepository, never()).findBranchDTOsByBaseSwiftCodeIn(any());
+    }
+
     @Test
     void shouldThrowWhenSwiftCodeNotFound() {
         //given
@@ -92,10 +123,10 @@ class SwiftCodeServiceTest {
     @Test
     void shouldReturnCountrySwiftCodes() {
         //given
-        List<Swift> codes = List.of(swift);
+        List<SwiftCodeDTO> codes = List.of(new SwiftCodeDTO(ADDRESS, BANK_NAME, COUNTRY_CODE, true, SWIFT_CODE));
         CountrySwiftCodeDTO expectedDto = mock(CountrySwiftCodeDTO.class);
-        when(countryRepository.findByIso2(COUNTRY_CODE)).thenReturn(Optional.of(country));
-        when(swiftRepository.findAllByCountryIso2IgnoreCase(COUNTRY_CODE)).thenReturn(codes);
+        when(countryCache.find(COUNTRY_CODE)).thenReturn(Optional.of(country));
+        when(swiftRepository.findSwiftCodeDTOsByCountryIso2(COUNTRY_CODE)).thenReturn(codes);
         when(mapper.mapToCountrySwiftCodeDTO(country, codes)).thenReturn(expectedDto);
         //when
         CountrySwiftCodeDTO result = service.getSwiftCodesByCountry(COUNTRY_CODE);
@@ -106,7 +137,7 @@ class SwiftCodeServiceTest {
     @Test
     void shouldThrowWhenCountryNotFound() {
         //given
-        when(countryRepository.findByIso2(COUNTRY_CODE)).thenReturn(Optional.empty());
+        when(countryCache.find(COUNTRY_CODE)).thenReturn(Optional.empty());
         //when //then
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> service.getSwiftCodesByCountry(COUNTRY_CODE));
         assertEquals(COUNTRY_NOT_FOUND_MSG + COUNTRY_CODE, ex.getMessage());
@@ -115,8 +146,8 @@ class SwiftCodeServiceTest {
     @Test
     void shouldReturnEmptyListWhenNoSwiftCodesInCountry() {
         //given
-        when(countryRepository.findByIso2(COUNTRY_CODE)).thenReturn(Optional.of(country));
-        when(swiftRepository.findAllByCountryIso2IgnoreCase(COUNTRY_CODE)).thenReturn(List.of());
+        when(countryCache.find(COUNTRY_CODE)).thenReturn(Optional.of(country));
+        when(swiftRepository.findSwiftCodeDTOsByCountryIso2(COUNTRY_CODE)).thenReturn(List.of());
         CountrySwiftCodeDTO expectedDto = mock(CountrySwiftCodeDTO.class);
         when(mapper.mapToCountrySwiftCodeDTO(country, List.of())).thenReturn(expectedDto);
         //when
@@ -126,16 +157,42 @@ class SwiftCodeServiceTest {
         assertTrue(result.getSwiftCodes().isEmpty());
     }
 
+    @Test
+    void shouldReturnNextCursorWhenPageIsFull() {
+        //given
+        List<SwiftCodeDTO> codes = List.of(new SwiftCodeDTO(ADDRESS, BANK_NAME, COUNTRY_CODE, true, SWIFT_CODE));
+        when(countryCache.find(COUNTRY_CODE)).thenReturn(Optional.of(country));
+        when(swiftRepository.findSwiftCodeDTOsByCountryIso2After(COUNTRY_CODE, "", Limit.of(1))).thenReturn(codes);
+        when(mapper.mapToCountrySwiftCodePageDTO(country, codes, SWIFT_CODE))
+                .thenReturn(CountrySwiftCodePageDTO.builder().nextCursor(SWIFT_CODE).build());
+        //when
+        CountrySwiftCodePageDTO result = service.getSwiftCodesByCountryPage(COUNTRY_CODE, 1, null);
+        //then
+        assertEquals(SWIFT_CODE, result.getNextCursor());
+    }
+
+    @Test
+    void shouldThrowWhenPageLimitOutOfRange() {
+        //given
+        when(countryCache.find(COUNTRY_CODE)).thenReturn(Optional.of(country));
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> service.getSwiftCodesByCountryPage(COUNTRY_CODE, 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getSwiftCodesByCountryPage(COUNTRY_CODE, SwiftCodeService.MAX_PAGE_SIZE + 1, null));
+    }
+
     @Test
     void shouldAddNewSwiftCode() {
         //given
         SwiftCodeDTO dto = new SwiftCodeDTO(ADDRESS, BANK_NAME, COUNTRY_CODE, true, SWIFT_CODE);
         when(swiftRepository.findBySwiftCode(SWIFT_CODE)).thenReturn(Optional.empty());
-        when(countryRepository.findByIso2(COUNTRY_CODE)).thenReturn(Optional.of(country));
+        when(countryCache.find(COUNTRY_CODE)).thenReturn(Optional.of(country));
         //when
         service.addSwiftCode(dto);
         //then
         verify(swiftRepository).save(any(Swift.class));
+        verify(eventPublisher).publishEvent(new SwiftCodeChangedEvent(
+                SwiftCodeChangedEvent.Type.ADDED, SWIFT_CODE, swift.getBaseSwiftCode(), COUNTRY_CODE));
     }
 
     @Test
@@ -153,7 +210,7 @@ class SwiftCodeServiceTest {
         //given
         SwiftCodeDTO dto = new SwiftCodeDTO(ADDRESS, BANK_NAME, COUNTRY_CODE, true, SWIFT_CODE);
         when(swiftRepository.findBySwiftCode(SWIFT_CODE)).thenReturn(Optional.empty());
-        when(countryRepository.findByIso2(COUNTRY_CODE)).thenReturn(Optional.empty());
+        when(countryCache.find(COUNTRY_CODE)).thenReturn(Optional.empty());
         //when //then
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> service.addSwiftCode(dto));
         assertEquals(COUNTRY_NOT_FOUND_MSG + COUNTRY_CODE, ex.getMessage());
@@ -167,6 +224,8 @@ class SwiftCodeServiceTest {
         service.deleteSwiftCode(SWIFT_CODE);
         //then
         verify(swiftRepository).delete(swift);
+        verify(eventPublisher).publishEvent(new SwiftCodeChangedEvent(
+                SwiftCodeChangedEvent.Type.DELETED, SWIFT_CODE, swift.getBaseSwiftCode(), COUNTRY_CODE));
     }
 
     @Test
@@ -176,5 +235,33 @@ class SwiftCodeServiceTest {
         //when //then
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> service.deleteSwiftCode(SWIFT_CODE));
         assertEquals(SWIFT_CODE_NOT_FOUND_MSG + SWIFT_CODE, ex.getMessage());
+        verify(swiftRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldServeHeadquarterFromSnapshotWithoutRepository() {
+        //given
+        Swift branch = new Swift("TESTUS33XXX", ADDRESS, BANK_NAME, false, country);
+        when(directoryEngine.current()).thenReturn(SwiftDirectorySnapshot.build(List.of(country), List.of(swift, branch)));
+        //when
+        Object result = service.getSwiftCodeDetails(SWIFT_CODE);
+        //then
+        HeadquarterSwiftCodeDTO headquarter = (HeadquarterSwiftCodeDTO) result;
+        assertEquals(SWIFT_CODE, headquarter.getSwiftCode());
+        assertEquals(List.of("TESTUS33XXX"), headquarter.getBranches().stream().map(SwiftCodeDTO::getSwiftCode).toList());
+        assertEquals(1, ((HeadquarterSwiftCodeSummaryDTO) service.getSwiftCodeSummary(SWIFT_CODE)).getBranchCount());
+        verifyNoInteractions(mapper);
+        verifyNoInteractions(swiftRepository);
+    }
+
+    @Test
+    void shouldThrowWhenCountryMissingFromSnapshot() {
+        //given
+        when(directoryEngine.current()).thenReturn(SwiftDirectorySnapshot.empty());
+        //when //then
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> service.getSwiftCodesByCountry(COUNTRY_CODE));
+        assertEquals(COUNTRY_NOT_FOUND_MSG + COUNTRY_CODE, ex.getMessage());
+        verifyNoInteractions(swiftRepository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package remitly.task.swiftcode.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SwiftCodeVersionTrackerTest {
+    private static final String HEADQUARTER_CODE = "DEUTDEFFXXX";
+    private static final String BRANCH_CODE = "DEUTDEFF500";
+    private static final String OTHER_CODE = "BREXPLPWXXX";
+    private static final String COUNTRY_DE = "DE";
+    private static final String COUNTRY_PL = "PL";
+
+    private final SwiftCodeVersionTracker tracker = new SwiftCodeVersionTracker();
+
+    @Test
+    void shouldShareStartupVersionUntilFirstWrite() {
+        //when
+        SwiftCodeVersionTracker.Version version = tracker.ofSwiftCode(HEADQUARTER_CODE);
+        //then
+        assertEquals(version, tracker.ofSwiftCode(OTHER_CODE));
+        assertEquals(version, tracker.ofCountry(COUNTRY_DE));
+        assertTrue(version.eTag().startsWith("\"") && version.eTag().endsWith("\""));
+    }
+
+    @Test
+    void shouldBumpVersionOfWrittenBaseCodeAndCountryOnly() {
+        //given
+        SwiftCodeVersionTracker.Version before = tracker.ofSwiftCode(HEADQUARTER_CODE);
+        //when
+        tracker.onSwiftCodeChanged(new SwiftCodeChangedEvent(
+                SwiftCodeChangedEvent.Type.DELETED, BRANCH_CODE, "DEUTDEFF", COUNTRY_DE));
+        //then
+        assertNotEquals(before, tracker.ofSwiftCode(HEADQUARTER_CODE));
+        assertEquals(tracker.ofSwiftCode(HEADQUARTER_CODE), tracker.ofSwiftCode(BRANCH_CODE));
+        assertNotEquals(before, tracker.ofCountry(COUNTRY_DE));
+        assertEquals(before, tracker.ofSwiftCode(OTHER_CODE));
+        assertEquals(before, tracker.ofCountry(COUNTRY_PL));
+    }
+
+    @Test
+    void shouldBumpAllKeysOfBulkWriteToOneNewVersion() {
+        //given
+        SwiftCodeVersionTracker.Version before = tracker.ofSwiftCode(HEADQUARTER_CODE);
+        //when
+        tracker.onSwiftCodesChanged(new SwiftCodesChangedEvent(List.of(
+                new SwiftCodeChangedEvent(SwiftCodeChangedEvent.Type.ADDED, BRANCH_CODE, "DEUTDEFF", COUNTRY_DE),
+                new SwiftCodeChangedEvent(SwiftCodeChangedEvent.Type.ADDED, OTHER_CODE, "BREXPLPW", COUNTRY_PL))));
+        //then
+        SwiftCodeVersionTracker.Version after = tracker.ofSwiftCode(HEADQUARTER_CODE);
+        assertNotEquals(before, after);
+        assertEquals(after, tracker.ofSwiftCode(OTHER_CODE));
+        assertEquals(after, tracker.ofCountry(COUNTRY_PL));
+    }
+
+    @Test
+    void shouldMoveCacheKeysOfWrittenCodeAndCountryToNewVersion() {
+        //given
+        String detailsKey = tracker.detailsCacheKey(HEADQUARTER_CODE);
+        String countryKey = tracker.countryCacheKey(COUNTRY_DE);
+        String otherKey = tracker.detailsCacheKey(OTHER_CODE);
+        //when
+        tracker.onSwiftCodeChanged(new SwiftCodeChangedEvent(
+                SwiftCodeChangedEvent.Type.ADDED, BRANCH_CODE, "DEUTDEFF", COUNTRY_DE));
+        //then
+        assertTrue(detailsKey.startsWith(HEADQUARTER_CODE + SwiftCodeVersionTracker.CACHE_KEY_SEPARATOR));
+        assertNotEquals(detailsKey, tracker.detailsCacheKey(HEADQUARTER_CODE));
+        assertNotEquals(countryKey, tracker.countryCacheKey(COUNTRY_DE));
+        assertEquals(otherKey, tracker.detailsCacheKey(OTHER_CODE));
+    }
+}
@@ -0,0 +1,198 @@
+package remitly.task.swiftcode.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeRow;
+import remitly.task.swiftcode.dto.SwiftDirectorySyncReportDTO;
+import remitly.task.swiftcode.model.Country;
+import remitly.task.swiftcode.model.Swift;
+import remitly.task.swiftcode.repository.CountryRepository;
+import remitly.task.swiftcode.repository.SwiftBatchRepository;
+import remitly.task.swiftcode.repository.SwiftCodeChangeRepository;
+import remitly.task.swiftcode.repository.SwiftRepository;
+import remitly.task.swiftcode.utils.DataValidator;
+import remitly.task.swiftcode.utils.XlsxSwiftCodeReader;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SwiftDirectorySyncServiceTest {
+    private static final String UNCHANGED_CODE = "DEUTDEFFXXX";
+    private static final String UPDATED_CODE = "DEUTDEFF500";
+    private static final String DELETED_CODE = "DEUTDEFF501";
+    private static final String INSERTED_CODE = "BREXPLPWXXX";
+    private static final String COUNTRY_DE = "DE";
+    private static final String COUNTRY_PL = "PL";
+    private static final String ADDRESS = "Address";
+    private static final String NEW_ADDRESS = "New address";
+    private static final String BANK_NAME = "Bank";
+
+    private final SwiftRepository swiftRepository = mock(SwiftRepository.class);
+    private final CountryRepository countryRepository = mock(CountryRepository.class);
+    private final SwiftBatchRepository swiftBatchRepository = mock(SwiftBatchRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private SwiftDirectorySyncService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SwiftDirectorySyncService(swiftRepository, countryRepository, swiftBatchRepository,
+                new XlsxSwiftCodeReader(), new DataValidator(), eventPublisher, new SwiftCodeChangeLog(mock(SwiftCodeChangeRepository.class),
+                swiftBatchRepository, new TransactionTemplate(mock(PlatformTransactionManager.class))));
+        when(countryRepository.findAll()).thenReturn(List.of(new Country("Germany", COUNTRY_DE)));
+        when(countryRepository.save(any(Country.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(swiftRepository.findAllSwiftCodeDTOs()).thenReturn(List.of(
+                stored(UNCHANGED_CODE, ADDRESS),
+                stored(UPDATED_CODE, ADDRESS),
+                stored(DELETED_CODE, ADDRESS)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldApplyOnlyTheDifferences() {
+        //given
+        List<SwiftCodeRow> rows = List.of(
+                row(UNCHANGED_CODE, COUNTRY_DE, ADDRESS),
+                row(UPDATED_CODE, COUNTRY_DE, NEW_ADDRESS),
+                row(INSERTED_CODE, COUNTRY_PL, ADDRESS));
+        ArgumentCaptor<List<Swift>> inserted = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Swift>> updated = ArgumentCaptor.forClass(List.class);
+        //when
+        SwiftDirectorySyncReportDTO report = service.sync(rows, false);
+        //then
+        assertEquals(1, report.getInserted());
+        assertEquals(1, report.getUpdated());
+        assertEquals(1, report.getDeleted());
+        assertEquals(1, report.getUnchanged());
+        verify(swiftBatchRepository).insertAll(inserted.capture());
+        verify(swiftBatchRepository).updateAll(updated.capture());
+        verify(swiftBatchRepository).deleteAll(List.of(DELETED_CODE));
+        assertEquals(INSERTED_CODE, inserted.getValue().get(0).getSwiftCode());
+        assertEquals(COUNTRY_PL, inserted.getValue().get(0).getCountry().getIso2());
+        assertEquals(NEW_ADDRESS, updated.getValue().get(0).getAddress());
+        verify(countryRepository).save(any(Country.class));
+        verify(swiftBatchRepository, times(3)).insertChanges(any());
+    }
+
+    @Test
+    void shouldPublishOneEventCoveringAllChanges() {
+        //given
+        List<SwiftCodeRow> rows = List.of(
+                row(UNCHANGED_CODE, COUNTRY_DE, ADDRESS),
+                row(UPDATED_CODE, COUNTRY_PL, ADDRESS),
+                row(DELETED_CODE, COUNTRY_DE, ADDRESS));
+        ArgumentCaptor<SwiftCodesChangedEvent> event = ArgumentCaptor.forClass(SwiftCodesChangedEvent.class);
+        //when
+        service.sync(rows, false);
+        //then
+        verify(eventPublisher).publishEvent(event.capture());
+        List<SwiftCodeChangedEvent> changes = event.getValue().getChanges();
+        assertEquals(2, changes.size());
+        assertEquals(SwiftCodeChangedEvent.Type.DELETED, changes.get(0).getType());
+        assertEquals(COUNTRY_DE, changes.get(0).getCountryISO2());
+        assertEquals(SwiftCodeChangedEvent.Type.ADDED, changes.get(1).getType());
+        assertEquals(COUNTRY_PL, changes.get(1).getCountryISO2());
+    }
+
+    @Test
+    void shouldWriteNothingWhenDirectoryIsUpToDate() {
+        //given
+        List<SwiftCodeRow> rows = List.of(
+                row(UNCHANGED_CODE, COUNTRY_DE, ADDRESS),
+                row(UPDATED_CODE, COUNTRY_DE, ADDRESS),
+                row(DELETED_CODE, COUNTRY_DE, ADDRESS));
+        //when
+        SwiftDirectorySyncReportDTO report = service.sync(rows, false);
+        //then
+        assertEquals(3, report.getUnchanged());
+        verify(swiftBatchRepository, never()).insertAll(any());
+        verify(swiftBatchRepository, never()).updateAll(any());
+        verify(swiftBatchRepository, never()).deleteAll(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldPublishCommittedBatchesWhenLaterBatchFails() {
+        //given
+        List<SwiftCodeRow> rows = List.of(
+                row(UNCHANGED_CODE, COUNTRY_DE, ADDRESS),
+                row(UPDATED_CODE, COUNTRY_DE, NEW_ADDRESS),
+                row(DELETED_CODE, COUNTRY_DE, ADDRESS),
+                row(INSERTED_CODE, COUNTRY_PL, ADDRESS));
+        doThrow(new IllegalStateException("Connection lost")).when(swiftBatchRepository).insertAll(any());
+        ArgumentCaptor<SwiftCodesChangedEvent> event = ArgumentCaptor.forClass(SwiftCodesChangedEvent.class);
+        //when
+        assertThrows(IllegalStateException.class, () -> service.sync(rows, false));
+        //then
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of(UPDATED_CODE, UPDATED_CODE),
+                event.getValue().getChanges().stream().map(SwiftCodeChangedEvent::getSwiftCode).toList());
+    }
+
+    @Test
+    void shouldRejectFileWithInvalidRowBeforeWriting() {
+        //given
+        List<SwiftCodeRow> rows = List.of(
+                row(UNCHANGED_CODE, COUNTRY_DE, ADDRESS),
+                row("DEUT", COUNTRY_DE, ADDRESS));
+        //when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> service.sync(rows, false));
+        //then
+        assertEquals("Invalid row 3: Invalid swiftCode format. Expected 11 uppercase letters/numbers", ex.getMessage());
+        verifyNoInteractions(swiftBatchRepository, eventPublisher);
+    }
+
+    @Test
+    void shouldRefuseToDeleteMostCodesUnlessForced() {
+        //given
+        List<SwiftCodeRow> rows = List.of(row(UNCHANGED_CODE, COUNTRY_DE, ADDRESS));
+        //when
+        IllegalArgumentException empty = assertThrows(IllegalArgumentException.class, () -> service.sync(List.of(), false));
+        IllegalArgumentException truncated = assertThrows(IllegalArgumentException.class, () -> service.sync(rows, false));
+        SwiftDirectorySyncReportDTO report = service.sync(rows, true);
+        //then
+        assertEquals("Synchronization would delete 3 of 3 SWIFT codes. Pass force=true to apply it", empty.getMessage());
+        assertEquals("Synchronization would delete 2 of 3 SWIFT codes. Pass force=true to apply it", truncated.getMessage());
+        assertEquals(2, report.getDeleted());
+        verify(swiftBatchRepository, times(1)).deleteAll(any());
+    }
+
+    @Test
+    void shouldNotCreateCountriesOfRefusedFile() {
+        //given
+        List<SwiftCodeRow> rows = List.of(row(INSERTED_CODE, COUNTRY_PL, ADDRESS));
+        //when
+        assertThrows(IllegalArgumentException.class, () -> service.sync(rows, false));
+        //then
+        verify(countryRepository, never()).save(any());
+        verifyNoInteractions(swiftBatchRepository);
+    }
+
+    private static SwiftCodeDTO stored(String swiftCode, String address) {
+        return new SwiftCodeDTO(address, BANK_NAME, COUNTRY_DE, !swiftCode.endsWith("XXX"), swiftCode);
+    }
+
+    private static SwiftCodeRow row(String swiftCode, String countryISO2, String address) {
+        return SwiftCodeRow.builder()
+                .swiftCode(swiftCode)
+                .countryISO2(countryISO2)
+                .countryName(countryISO2)
+                .bankName(BANK_NAME)
+                .address(address)
+                .build();
+    }
+}
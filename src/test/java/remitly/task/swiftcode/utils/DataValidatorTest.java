@@ -14,6 +14,11 @@ class DataValidatorTest {
     private static final String INVALID_ISO2_LOWER = "us";
     private static final String INVALID_ISO2_SYMBOLS = "U$";
     private static final String EMPTY_CODE = " ";
+    private static final String UNKNOWN_COUNTRY_SWIFT_CODE = "ABCDXY33XXX";
+    private static final String TEST_LOCATION_SWIFT_CODE = "ABCDUS20XXX";
+    private static final String KOSOVO_SWIFT_CODE = "ABCDXKPRXXX";
+    private static final String INVALID_COUNTRY_MSG = "Invalid swiftCode country code. Expected a known ISO2 code at positions 5-6";
+    private static final String INVALID_LOCATION_MSG = "Invalid swiftCode location code. It must not start with 0 or 1 or end with the letter O";
 
     private DataValidator validator;
 
@@ -51,6 +56,31 @@ class DataValidatorTest {
         assertEquals("Invalid swiftCode format. Expected 11 uppercase letters/numbers", ex2.getMessage());
     }
 
+    @Test
+    void shouldPassValidationForTestLocationAndKosovoSwiftCodes() {
+        //given //when //then
+        assertDoesNotThrow(() -> validator.validateSwiftCode(TEST_LOCATION_SWIFT_CODE));
+        assertDoesNotThrow(() -> validator.validateSwiftCode(KOSOVO_SWIFT_CODE));
+    }
+
+    @Test
+    void shouldThrowForUnknownCountrySegment() {
+        //given //when //then
+        IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class, () -> validator.validateSwiftCode(UNKNOWN_COUNTRY_SWIFT_CODE));
+        assertEquals(INVALID_COUNTRY_MSG, ex1.getMessage());
+        IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class, () -> validator.validateSwiftCode("ABCD1S33XXX"));
+        assertEquals(INVALID_COUNTRY_MSG, ex2.getMessage());
+    }
+
+    @Test
+    void shouldThrowForInvalidLocationCode() {
+        //given //when //then
+        for (String swiftCode : new String[]{"ABCDUS03XXX", "ABCDUS13XXX", "ABCDUS3OXXX"}) {
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> validator.validateSwiftCode(swiftCode));
+            assertEquals(INVALID_LOCATION_MSG, ex.getMessage());
+        }
+    }
+
     @Test
     void shouldPassValidationForValidCountryISO2() {
         //given //when //then
@@ -0,0 +1,49 @@
+package remitly.task.swiftcode.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GzipTest {
+    private static final byte[] BODY = "{\"swiftCode\":\"DEUTDEFFXXX\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void shouldCompressToGzipStream() throws IOException {
+        //when
+        byte[] compressed = Gzip.compress(BODY);
+        //then
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(BODY, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldAcceptGzipWithNonZeroQuality() {
+        //when //then
+        assertTrue(Gzip.isAccepted("gzip"));
+        assertTrue(Gzip.isAccepted("deflate, GZIP;q=0.5, br"));
+        assertTrue(Gzip.isAccepted("x-gzip"));
+        assertTrue(Gzip.isAccepted("br;q=1.0, gzip ; Q=0.001"));
+        assertTrue(Gzip.isAccepted("*"));
+        assertTrue(Gzip.isAccepted("identity, *;q=0.1"));
+    }
+
+    @Test
+    void shouldRefuseGzipWithZeroOrMalformedQualityOrWhenNotListed() {
+        //when //then
+        assertFalse(Gzip.isAccepted(null));
+        assertFalse(Gzip.isAccepted(""));
+        assertFalse(Gzip.isAccepted("identity"));
+        assertFalse(Gzip.isAccepted("gzip;q=0"));
+        assertFalse(Gzip.isAccepted("gzip;q=0.000, deflate"));
+        assertFalse(Gzip.isAccepted("gzip;q=0, *"));
+        assertFalse(Gzip.isAccepted("*;q=0"));
+        assertFalse(Gzip.isAccepted("gzip;q=high"));
+        assertFalse(Gzip.isAccepted("nogzip, gzipped"));
+    }
+}
@@ -76,7 +76,7 @@ class SwiftCodeDetailsMapperTest {
         // given
         when(swift.isHeadquarter()).thenReturn(true);
         // when
-        HeadquarterSwiftCodeDTO headquarterDto = mapper.mapToHeadquarterSwiftCodeDTO(swift, swiftList);
+        HeadquarterSwiftCodeDTO headquarterDto = mapper.mapToHeadquarterSwiftCodeDTO(swift, mapper.mapToSwiftCodeDTOs(swiftList));
         // then
         assertNotNull(headquarterDto);
         assertEquals(SWIFT_CODE_1, headquarterDto.getSwiftCode());
@@ -105,7 +105,7 @@ class SwiftCodeDetailsMapperTest {
         // given
         when(swift.isHeadquarter()).thenReturn(false);
         // when
-        CountrySwiftCodeDTO countryDto = mapper.mapToCountrySwiftCodeDTO(country, swiftList);
+        CountrySwiftCodeDTO countryDto = mapper.mapToCountrySwiftCodeDTO(country, mapper.mapToSwiftCodeDTOs(swiftList));
         // then
         assertNotNull(countryDto);
         assertEquals(COUNTRY_ISO2, countryDto.getCountryISO2());
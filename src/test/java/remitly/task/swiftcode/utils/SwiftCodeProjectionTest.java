@@ -0,0 +1,70 @@
+package remitly.task.swiftcode.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Test;
+import remitly.task.swiftcode.dto.CompactSwiftCodeListDTO;
+import remitly.task.swiftcode.dto.CountrySwiftCodeDTO;
+import remitly.task.swiftcode.dto.SwiftCodeDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SwiftCodeProjectionTest {
+    private static final String SWIFT_CODE = "DEUTDEFF500";
+    private static final String COUNTRY_ISO2 = "DE";
+    private static final String COUNTRY_NAME = "Germany";
+    private static final SwiftCodeDTO SWIFT_CODE_DTO = new SwiftCodeDTO("Address", "Bank", COUNTRY_ISO2, true, SWIFT_CODE);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final SwiftCodeProjection projection = new SwiftCodeProjection(objectMapper, cborMapper);
+
+    @Test
+    void shouldParseFieldsInCanonicalOrder() {
+        //when
+        Set<String> fields = projection.parseFields("isHeadquarter, swiftCode");
+        //then
+        assertEquals(List.of("swiftCode", "isHeadquarter"), List.copyOf(fields));
+        assertEquals(SwiftCodeProjection.FIELDS, List.copyOf(projection.parseFields(null)));
+    }
+
+    @Test
+    void shouldRejectUnknownOrEmptyFields() {
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> projection.parseFields("swiftCode,iban"));
+        assertThrows(IllegalArgumentException.class, () -> projection.parseFields(""));
+    }
+
+    @Test
+    void shouldSkipUnrequestedFieldsOfNestedCodesOnly() throws Exception {
+        //given
+        CountrySwiftCodeDTO listing = CountrySwiftCodeDTO.builder()
+                .countryISO2(COUNTRY_ISO2)
+                .countryName(COUNTRY_NAME)
+                .swiftCodes(List.of(SWIFT_CODE_DTO))
+                .build();
+        //when
+        String json = new String(projection.write(listing, Set.of("swiftCode"), false), StandardCharsets.UTF_8);
+        byte[] cbor = projection.write(listing, Set.of("swiftCode"), true);
+        //then
+        assertEquals("{\"countryISO2\":\"DE\",\"countryName\":\"Germany\",\"swiftCodes\":[{\"swiftCode\":\"DEUTDEFF500\"}]}", json);
+        assertEquals(objectMapper.readTree(json), cborMapper.readTree(cbor));
+        assertEquals(5, objectMapper.readTree(objectMapper.writeValueAsBytes(SWIFT_CODE_DTO)).size());
+    }
+
+    @Test
+    void shouldWriteCompactRowsInColumnOrder() {
+        //when
+        CompactSwiftCodeListDTO compact = projection.compact(COUNTRY_ISO2, COUNTRY_NAME, List.of(SWIFT_CODE_DTO), null,
+                projection.parseFields("isHeadquarter,bankName,swiftCode"));
+        //then
+        assertEquals(List.of("swiftCode", "bankName", "isHeadquarter"), compact.getColumns());
+        assertArrayEquals(new Object[]{SWIFT_CODE, "Bank", true}, compact.getRows().get(0));
+    }
+}
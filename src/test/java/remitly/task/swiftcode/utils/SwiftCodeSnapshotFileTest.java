@@ -0,0 +1,111 @@
+package remitly.task.swiftcode.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import remitly.task.swiftcode.dto.SwiftCodeRow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SwiftCodeSnapshotFileTest {
+    private static final long CHECKSUM = 42L;
+    private static final SwiftCodeRow BRANCH = row("PL", "POLAND", "BREXPLPWXXX", "MBANK S.A.", "UL. PROSTA 18 WARSZAWA");
+    private static final SwiftCodeRow HEADQUARTER = row("PL", "POLAND", "BREXPLPW560", "MBANK S.A.", null);
+    private static final SwiftCodeRow OTHER_HEADQUARTER = row("PL", "POLAND", "BREXPLPW001", "MBANK S.A.", "ŁÓDŹ");
+    private static final SwiftCodeRow OTHER = row("AL", "ALBANIA", "AAISALTRXXX", "UNITED BANK OF ALBANIA SH.A", "TIRANA");
+
+    @TempDir
+    private Path directory;
+    private SwiftCodeSnapshotFile snapshotFile;
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        snapshotFile = new SwiftCodeSnapshotFile();
+        path = directory.resolve("snapshot").resolve("swiftcodes.bin");
+        write(List.of(BRANCH, HEADQUARTER, OTHER, OTHER_HEADQUARTER));
+    }
+
+    @Test
+    void shouldReplayRowsInSheetOrder() {
+        //given
+        List<SwiftCodeRow> rows = new ArrayList<>();
+        //when
+        SwiftCodeSnapshotFile.Snapshot snapshot = snapshotFile.open(path, CHECKSUM).orElseThrow();
+        snapshot.forEach(rows::add);
+        //then
+        assertEquals(4, snapshot.size());
+        assertEquals(List.of(BRANCH, HEADQUARTER, OTHER, OTHER_HEADQUARTER), rows);
+    }
+
+    @Test
+    void shouldInstallCopyOfSnapshot() throws Exception {
+        //given
+        Path installed = directory.resolve("installed").resolve("swiftcodes.bin");
+        List<SwiftCodeRow> rows = new ArrayList<>();
+        //when
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            snapshotFile.install(inputStream, installed);
+        }
+        snapshotFile.open(installed, CHECKSUM).orElseThrow().forEach(rows::add);
+        //then
+        assertEquals(List.of(BRANCH, HEADQUARTER, OTHER, OTHER_HEADQUARTER), rows);
+    }
+
+    @Test
+    void shouldIgnoreSnapshotOfAnotherSourceOrMissingOrCorruptFile() throws Exception {
+        //when //then
+        assertTrue(snapshotFile.open(path, CHECKSUM + 1).isEmpty());
+        assertTrue(snapshotFile.open(directory.resolve("missing.bin"), CHECKSUM).isEmpty());
+        Files.write(path, new byte[64]);
+        assertTrue(snapshotFile.open(path, CHECKSUM).isEmpty());
+    }
+
+    @Test
+    void shouldKeepPreviousSnapshotWhenRowIsMalformed() throws Exception {
+        //given
+        List<SwiftCodeRow> rows = new ArrayList<>();
+        //when
+        try (SwiftCodeSnapshotFile.Writer writer = snapshotFile.create(path, CHECKSUM + 1)) {
+            writer.accept(OTHER);
+            writer.accept(row("PL", "POLAND", "SHORT", "BANK", "ADDRESS"));
+            writer.accept(BRANCH);
+            assertThrows(IllegalArgumentException.class, writer::commit);
+        }
+        snapshotFile.open(path, CHECKSUM).orElseThrow().forEach(rows::add);
+        //then
+        assertEquals(4, rows.size());
+        assertTrue(snapshotFile.open(path, CHECKSUM + 1).isEmpty());
+        try (Stream<Path> files = Files.list(path.getParent())) {
+            assertEquals(List.of(path), files.toList());
+        }
+    }
+
+    private void write(List<SwiftCodeRow> rows) {
+        try (SwiftCodeSnapshotFile.Writer writer = snapshotFile.create(path, CHECKSUM)) {
+            rows.forEach(writer);
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static SwiftCodeRow row(String iso2, String countryName, String swiftCode, String bankName, String address) {
+        return SwiftCodeRow.builder()
+                .countryISO2(iso2)
+                .countryName(countryName)
+                .swiftCode(swiftCode)
+                .bankName(bankName)
+                .address(address)
+                .build();
+    }
+}
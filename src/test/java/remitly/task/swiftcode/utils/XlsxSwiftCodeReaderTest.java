@@ -0,0 +1,79 @@
+package remitly.task.swiftcode.utils;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import remitly.task.swiftcode.dto.SwiftCodeRow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XlsxSwiftCodeReaderTest {
+    private static final String[] HEADER = {"COUNTRY ISO2 CODE", "SWIFT CODE", "CODE TYPE", "NAME", "ADDRESS", "TOWN NAME", "COUNTRY NAME", "TIME ZONE"};
+    private static final String[] ROW_1 = {"AL", "AAISALTRXXX", "BIC11", "UNITED BANK OF ALBANIA SH.A", "HYRJA 3 RR. DRITAN HOXHA", "TIRANA", "ALBANIA", "Europe/Tirane"};
+    private static final String[] ROW_2 = {"BG", "ABIEBGS1XXX", "BIC11", "ABV INVESTMENTS LTD", null, "VARNA", "BULGARIA", "Europe/Sofia"};
+
+    private XlsxSwiftCodeReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new XlsxSwiftCodeReader();
+    }
+
+    @Test
+    void shouldStreamDataRowsSkippingHeader() throws IOException {
+        //given
+        List<SwiftCodeRow> rows = new ArrayList<>();
+        //when
+        long count = reader.read(workbook(HEADER, ROW_1, ROW_2), rows::add);
+        //then
+        assertEquals(2, count);
+        assertEquals(2, rows.size());
+        SwiftCodeRow first = rows.get(0);
+        assertEquals("AL", first.getCountryISO2());
+        assertEquals("AAISALTRXXX", first.getSwiftCode());
+        assertEquals("UNITED BANK OF ALBANIA SH.A", first.getBankName());
+        assertEquals("HYRJA 3 RR. DRITAN HOXHA", first.getAddress());
+        assertEquals("ALBANIA", first.getCountryName());
+    }
+
+    @Test
+    void shouldMapMissingCellsToEmptyStrings() throws IOException {
+        //given
+        List<SwiftCodeRow> rows = new ArrayList<>();
+        //when
+        reader.read(workbook(HEADER, ROW_2), rows::add);
+        //then
+        assertEquals("", rows.get(0).getAddress());
+        assertEquals("BULGARIA", rows.get(0).getCountryName());
+    }
+
+    @Test
+    void shouldThrowForNonXlsxInput() {
+        //given //when //then
+        assertThrows(IllegalStateException.class,
+                () -> reader.read(new ByteArrayInputStream("not a workbook".getBytes()), row -> {}));
+    }
+
+    private static InputStream workbook(String[]... rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet();
+            for (int i = 0; i < rows.length; i++) {
+                Row row = sheet.createRow(i);
+                for (int j = 0; j < rows[i].length; j++) {
+                    if (rows[i][j] != null) row.createCell(j).setCellValue(rows[i][j]);
+                }
+            }
+            workbook.write(out);
+            return new ByteArrayInputStream(out.toByteArray());
+        }
+    }
+}